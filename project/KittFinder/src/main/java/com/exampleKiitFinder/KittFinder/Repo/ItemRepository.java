@@ -1,17 +1,162 @@
 package com.exampleKiitFinder.KittFinder.Repo;
 
+import com.exampleKiitFinder.KittFinder.dto.ItemFacetCount;
+import com.exampleKiitFinder.KittFinder.dto.ItemListVersion;
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
 import com.exampleKiitFinder.KittFinder.modell.Item;
 import com.exampleKiitFinder.KittFinder.modell.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 @Repository
-public interface ItemRepository extends JpaRepository<Item,Long> {
+public interface ItemRepository extends JpaRepository<Item,Long>, JpaSpecificationExecutor<Item> {
+    // Selects ItemResponse rows with a single join on users, so listings never load Item/User entities
+    String ITEM_RESPONSE_COLUMNS = "select new com.exampleKiitFinder.KittFinder.dto.ItemResponse(" +
+            "i.id, i.title, i.description, i.location, i.category, i.status, i.approved, i.imageUrl, " +
+            "i.createdAt, i.updatedAt, i.reward, u.name, u.id, i.locationCode, i.latitude, i.longitude) ";
+    String ITEM_RESPONSE_SELECT = ITEM_RESPONSE_COLUMNS + "from Item i left join i.postedBy u ";
+
     List<Item> findByApprovedTrue();
     List<Item> findByReportedBy(User user);
     List<Item> findByPostedBy(User user);
     List<Item> findByStatus(String status);
     List<Item> findByCategory(String category);
     List<Item> findByLocationContainingIgnoreCase(String location);
+
+    // This and findApprovedPage seed the in-memory views, which afterwards only see changes as events, so
+    // a view seeded from a lagging replica would stay wrong. Called on their own they run in a read-write
+    // transaction and so on the primary; inside a caller's read-only transaction they join it
+    @Transactional
+    @Query(ITEM_RESPONSE_SELECT)
+    List<ItemResponse> findAllResponses();
+
+    @Query("select max(i.updatedAt) as lastUpdated, count(i) as total from Item i")
+    ItemListVersion findListVersion();
+
+    @Query("select i.approved as approved, i.status as status, i.category as category, i.locationCode as locationCode, " +
+            "count(i) as total from Item i group by i.approved, i.status, i.category, i.locationCode")
+    List<ItemFacetCount> countFacets();
+
+    @Query(ITEM_RESPONSE_SELECT + "where i.id = :id")
+    Optional<ItemResponse> findResponseById(@Param("id") Long id);
+
+    // Newest approved items first, in the feed's order; the Pageable only carries the limit
+    @Transactional
+    @Query(ITEM_RESPONSE_SELECT + "where i.approved = true order by i.createdAt desc, i.id desc")
+    List<ItemResponse> findApprovedPage(Pageable pageable);
+
+    // Joins users as a separate entity so that i.postedBy.id stays the items.posted_by column; through the
+    // association join it would be compared on the joined users row and the owner index would not be used
+    @Query(ITEM_RESPONSE_COLUMNS + "from Item i left join User u on u = i.postedBy where i.postedBy.id = :userId")
+    List<ItemResponse> findResponsesByPostedById(@Param("userId") Long userId);
+
+    @Query(ITEM_RESPONSE_SELECT + "where i.status = :status")
+    List<ItemResponse> findResponsesByStatus(@Param("status") String status);
+
+    @Query(ITEM_RESPONSE_SELECT + "where i.category = :category")
+    List<ItemResponse> findResponsesByCategory(@Param("category") String category);
+
+    @Query(ITEM_RESPONSE_SELECT + "where i.locationCode = :locationCode")
+    List<ItemResponse> findResponsesByLocationCode(@Param("locationCode") String locationCode);
+
+    @Query(ITEM_RESPONSE_SELECT + "where lower(i.location) like lower(concat('%', :location, '%'))")
+    List<ItemResponse> findResponsesByLocationContaining(@Param("location") String location);
+
+    // Keyset pagination over (createdAt desc, id desc); the Pageable only carries the limit
+    @Query(ITEM_RESPONSE_SELECT + "order by i.createdAt desc, i.id desc")
+    List<ItemResponse> findFirstPage(Pageable pageable);
+
+    // Undated rows come after every dated row in this order, so they follow the last dated page
+    @Query(ITEM_RESPONSE_SELECT +
+            "where i.createdAt < :createdAt or (i.createdAt = :createdAt and i.id < :id) or i.createdAt is null " +
+            "order by i.createdAt desc, i.id desc")
+    List<ItemResponse> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    @Query(ITEM_RESPONSE_SELECT + "where i.createdAt is null and i.id < :id order by i.id desc")
+    List<ItemResponse> findUndatedPageAfter(@Param("id") Long id, Pageable pageable);
+
+    @Query(ITEM_RESPONSE_SELECT + "where i.id in :ids")
+    List<ItemResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select i.id from Item i where i.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Set-based moderation writes
+    @Modifying
+    @Query("update Item i set i.approved = :approved, i.updatedAt = :updatedAt where i.id in :ids")
+    int updateApprovedByIdIn(@Param("ids") Collection<Long> ids,
+                             @Param("approved") boolean approved,
+                             @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("update Item i set i.status = :status, i.updatedAt = :updatedAt where i.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") String status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("delete from Item i where i.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Location backfill: distinct texts not yet resolved to a campus place, then one update per text
+    @Query("select distinct i.location from Item i where i.locationCode is null and i.location is not null")
+    List<String> findUnresolvedLocations();
+
+    @Modifying
+    @Query("update Item i set i.locationCode = :locationCode where i.location = :location and i.locationCode is null")
+    int setLocationCode(@Param("location") String location, @Param("locationCode") String locationCode);
+
+    // Only rows without coordinates: ones a user gave explicitly are kept
+    @Modifying
+    @Query("update Item i set i.latitude = :latitude, i.longitude = :longitude " +
+            "where i.locationCode = :locationCode and i.latitude is null")
+    int fillCoordinates(@Param("locationCode") String locationCode,
+                        @Param("latitude") Double latitude,
+                        @Param("longitude") Double longitude);
+
+    // Owner-checked writes: a null ownerId skips the ownership check (admin)
+    @Query("select count(i) > 0 from Item i where i.id = :id and (:ownerId is null or i.postedBy.id = :ownerId)")
+    boolean existsByIdAndOwner(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
+    @Modifying
+    @Query("delete from Item i where i.id = :id and (:ownerId is null or i.postedBy.id = :ownerId)")
+    int deleteByIdAndOwner(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
+    @Modifying
+    @Query("update Item i set i.title = :title, i.description = :description, i.location = :location, " +
+            "i.locationCode = :locationCode, i.latitude = :latitude, i.longitude = :longitude, " +
+            "i.category = :category, i.status = :status, i.reward = :reward, i.updatedAt = :updatedAt " +
+            "where i.id = :id and (:ownerId is null or i.postedBy.id = :ownerId)")
+    int updateByIdAndOwner(@Param("id") Long id,
+                           @Param("ownerId") Long ownerId,
+                           @Param("title") String title,
+                           @Param("description") String description,
+                           @Param("location") String location,
+                           @Param("locationCode") String locationCode,
+                           @Param("latitude") Double latitude,
+                           @Param("longitude") Double longitude,
+                           @Param("category") String category,
+                           @Param("status") String status,
+                           @Param("reward") Double reward,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("update Item i set i.imageUrl = :imageUrl, i.updatedAt = :updatedAt " +
+            "where i.id = :id and (:ownerId is null or i.postedBy.id = :ownerId)")
+    int updateImageUrlByIdAndOwner(@Param("id") Long id,
+                                   @Param("ownerId") Long ownerId,
+                                   @Param("imageUrl") String imageUrl,
+                                   @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,86 @@
+package com.exampleKiitFinder.KittFinder.Repo;
+
+import com.exampleKiitFinder.KittFinder.modell.Item;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+// Predicates for ItemRepository's JpaSpecificationExecutor, combined per request by ItemServiceImpl
+public final class ItemSpecifications {
+
+    private ItemSpecifications() {
+    }
+
+    public static Specification<Item> hasStatus(String status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Item> hasCategory(String category) {
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<Item> statusIn(Collection<String> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Item> categoryIn(Collection<String> categories) {
+        return (root, query, cb) -> root.get("category").in(categories);
+    }
+
+    public static Specification<Item> idBelow(Long id) {
+        return (root, query, cb) -> cb.lessThan(root.get("id"), id);
+    }
+
+    public static Specification<Item> isApproved(boolean approved) {
+        return (root, query, cb) -> cb.equal(root.get("approved"), approved);
+    }
+
+    public static Specification<Item> postedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("postedBy").get("id"), userId);
+    }
+
+    public static Specification<Item> rewardAtLeast(double minReward) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("reward"), minReward);
+    }
+
+    public static Specification<Item> atLocationCode(String locationCode) {
+        return (root, query, cb) -> cb.equal(root.get("locationCode"), locationCode);
+    }
+
+    public static Specification<Item> locationContaining(String location) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("location")), "%" + location.toLowerCase() + "%");
+    }
+
+    public static Specification<Item> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<Item> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), to);
+    }
+
+    // Keyset position in the (createdAt desc, id desc) order, where undated rows come last
+    public static Specification<Item> after(LocalDateTime createdAt, Long id) {
+        if (createdAt == null) {
+            return (root, query, cb) -> cb.and(cb.isNull(root.get("createdAt")), cb.lessThan(root.get("id"), id));
+        }
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id)),
+                cb.isNull(root.get("createdAt")));
+    }
+
+    // Loads both users in the same statement instead of one select per item; skipped for the COUNT query
+    public static Specification<Item> fetchUsers() {
+        return (root, query, cb) -> {
+            Class<?> resultType = query.getResultType();
+            if (resultType != Long.class && resultType != long.class) {
+                root.fetch("postedBy", JoinType.LEFT);
+                root.fetch("reportedBy", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+
+// Security principal that carries the user id and role, so they can be read without a user lookup
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+    private final Long id;
+    private final Role role;
+
+    public AuthenticatedUser(Long id, String email, String password, Role role) {
+        super(email, password, Collections.singleton(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        this.id = id;
+        this.role = role;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+}
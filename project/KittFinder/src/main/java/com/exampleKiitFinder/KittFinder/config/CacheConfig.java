@@ -0,0 +1,13 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Caffeine caches configured through spring.cache.* in application.properties
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String ITEMS = "items";
+    public static final String ITEMS_BY_STATUS = "itemsByStatus";
+    public static final String ITEMS_BY_CATEGORY = "itemsByCategory";
+}
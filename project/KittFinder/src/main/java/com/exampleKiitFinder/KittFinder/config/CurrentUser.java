@@ -0,0 +1,13 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Injects the authenticated caller into a controller method parameter.
+// Supports AuthenticatedUser (no database access) and User (loaded once per request).
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
@@ -0,0 +1,52 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import com.exampleKiitFinder.KittFinder.modell.User;
+import com.exampleKiitFinder.KittFinder.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+    private static final String CURRENT_USER_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".user";
+
+    @Autowired
+    private UserService userService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (type == User.class || type == AuthenticatedUser.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser principal)) {
+            throw new RuntimeException("User not found");
+        }
+        if (parameter.getParameterType() == AuthenticatedUser.class) {
+            return principal;
+        }
+
+        // Memoized so the user row is read at most once per request
+        User user = (User) webRequest.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (user == null) {
+            user = userService.findById(principal.getId())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            webRequest.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+}
@@ -1,5 +1,7 @@
 package com.exampleKiitFinder.KittFinder.config;
 
+import com.exampleKiitFinder.KittFinder.service.CustomUserDetailService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +11,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,13 +26,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private CustomUserDetailService userDetailsService;
+
+    @Autowired
+    private PrincipalCache principalCache;
 
     // Public endpoints that don't require JWT authentication
     private static final List<String> PUBLIC_ENDPOINTS = Arrays.asList(
             "/api/auth/register",
             "/api/auth/login",
-            "/api/auth/create-admin"
+            "/api/auth/create-admin",
+            "/api/items/feed",
+            "/api/images/",
+            "/actuator/health"
     );
 
     @Override
@@ -55,25 +62,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         String username = null;
-        String token = null;
+        Long userId = null;
 
         // Check for token in "Authorization: Bearer <token>"
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7); // Remove "Bearer " prefix
+            String token = authHeader.substring(7); // Remove "Bearer " prefix
             try {
-                username = jwtUtil.extractUsername(token);
+                // Signature and expiry are verified here, once per token
+                Claims claims = jwtUtil.parseVerifiedClaims(token);
+                username = claims.getSubject();
+                userId = jwtUtil.extractUserId(claims);
             } catch (Exception e) {
                 // Log the error but continue processing
                 logger.warn("JWT token is invalid: " + e.getMessage());
             }
         }
 
-        // Validate and authenticate user
+        // Authenticate user
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                // The id claim only picks the cache entry; the role is the one stored for the user, so a deleted
+                // or demoted user loses access once the entry is invalidated. Tokens without the claim look up by email
+                UserDetails userDetails = userId != null
+                        ? principalCache.get(userId, userDetailsService::loadUserById)
+                        : userDetailsService.loadUserByUsername(username);
 
-                if (jwtUtil.validateToken(token, userDetails.getUsername())) {
+                if (userDetails != null && userDetails.getUsername().equals(username)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities()
                     );
@@ -1,12 +1,24 @@
 package com.exampleKiitFinder.KittFinder.config;
 
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
@@ -16,48 +28,122 @@ public class JwtUtil {
 
     private final long EXPIRATION_TIME = 1000 * 60 * 60 * 10;
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+
+    // The key and parser are immutable and thread-safe, so they are built once instead of per call
+    private final Key signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(signInKey)
+            .build();
+
+    // Verified claims keyed by the SHA-256 of the token; each entry lives until the token expires
+    private final Cache<String, Claims> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(new Expiry<String, Claims>() {
+                @Override
+                public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                    long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                }
+
+                @Override
+                public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                    return expireAfterCreate(digest, claims, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    private final Timer signTimer;
+    // Only cache misses pay for HMAC verification
+    private final Timer verifyTimer;
+    private final Counter verifyCacheHits;
+
+    public JwtUtil(MeterRegistry meterRegistry) {
+        this.signTimer = meterRegistry.timer("kittfinder.jwt.sign");
+        this.verifyTimer = meterRegistry.timer("kittfinder.jwt.verify");
+        this.verifyCacheHits = meterRegistry.counter("kittfinder.jwt.verify.cache.hits");
     }
 
-    public String generateToken(String username) {
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
-                .compact();
+    public String generateToken(String username, Long userId, Role role) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return Jwts.builder()
+                    .setSubject(username)
+                    .claim(USER_ID_CLAIM, userId)
+                    .claim(ROLE_CLAIM, role.name())
+                    .setIssuedAt(new Date(System.currentTimeMillis()))
+                    .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
+                    .signWith(signInKey, SignatureAlgorithm.HS256)
+                    .compact();
+        } finally {
+            sample.stop(signTimer);
+        }
     }
 
+    // Verifies signature and expiry once and returns the claims; throws JwtException when invalid
+    public Claims parseVerifiedClaims(String token) {
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.getExpiration().after(new Date())) {
+            verifyCacheHits.increment();
+            return cached;
+        }
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        Claims claims;
+        Timer.Sample sample = Timer.start();
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } finally {
+            sample.stop(verifyTimer);
+        }
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
     }
 
+    // Null for tokens issued before the id claim was added
+    public Long extractUserId(Claims claims) {
+        return claims.get(USER_ID_CLAIM, Long.class);
+    }
 
-
+    public String extractUsername(String token) {
+        return extractClaim(token, Claims::getSubject);
+    }
 
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
+
     public Boolean validateToken(String token, String username) {
-        final String tokenUsername = extractUsername(token);
-        return (tokenUsername.equals(username) && !isTokenExpired(token));
+        try {
+            final Claims claims = parseVerifiedClaims(token);
+            return claims.getSubject().equals(username) && claims.getExpiration().after(new Date());
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
     }
+
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseVerifiedClaims(token);
         return claimsResolver.apply(claims);
     }
-    
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-}
\ No newline at end of file
+}
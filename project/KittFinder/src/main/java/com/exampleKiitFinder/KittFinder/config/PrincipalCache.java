@@ -0,0 +1,47 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+// Principals resolved for token authentication, keyed by the token's user id claim. The role always comes
+// from the users table, never from the token. deleteUser and role changes invalidate the entry on this
+// instance; the time to live bounds how long another instance can keep serving the old role.
+@Component
+public class PrincipalCache {
+    private static final int MAX_PRINCIPALS = 10_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    // Futures rather than values: the database load runs outside the map's bin lock, so a slow lookup never
+    // blocks other keys in the same bin, and concurrent requests for the same user still share one load
+    private final AsyncCache<Long, AuthenticatedUser> principals = Caffeine.newBuilder()
+            .maximumSize(MAX_PRINCIPALS)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .buildAsync();
+
+    // Returns null when the loader finds no user; misses and failures are not cached
+    public AuthenticatedUser get(Long userId, Function<Long, AuthenticatedUser> loader) {
+        CompletableFuture<AuthenticatedUser> loading = new CompletableFuture<>();
+        CompletableFuture<AuthenticatedUser> existing = principals.asMap().putIfAbsent(userId, loading);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            AuthenticatedUser principal = loader.apply(userId);
+            loading.complete(principal);
+            return principal;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // Also drops an in-flight load, so its result is never cached
+    public void invalidate(Long userId) {
+        principals.synchronous().invalidate(userId);
+    }
+}
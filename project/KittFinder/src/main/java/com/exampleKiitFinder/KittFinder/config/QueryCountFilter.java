@@ -0,0 +1,47 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Records the number of SQL statements each request ran, tagged like http.server.requests.
+// Ordered ahead of Spring Security so the principal lookup is included. Work finished on
+// another thread (async login, SSE) is not counted.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queries = QueryCountInspector.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("kittfinder.http.queries")
+                    .description("SQL statements executed per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .register(meterRegistry)
+                    .record(Math.max(queries, 0));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts SQL statements prepared by Hibernate on the current thread. Registered through
+// hibernate.session_factory.statement_inspector; QueryCountFilter reads it once per request.
+public class QueryCountInspector implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    // Statements since start(); -1 if counting was not started on this thread
+    static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : -1;
+    }
+}
@@ -0,0 +1,60 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+// Active only when kittfinder.datasource.replica.jdbc-url is set; otherwise Spring Boot's single
+// DataSource from spring.datasource.* is used as before. The primary keeps the spring.datasource.*
+// and spring.datasource.hikari.* settings; the replica pool binds kittfinder.datasource.replica.*
+// (HikariConfig property names: jdbc-url, username, password, maximum-pool-size, ...).
+@Configuration
+@ConditionalOnProperty(name = "kittfinder.datasource.replica.jdbc-url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("kittfinder.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource replica = DataSourceBuilder.create().type(HikariDataSource.class).build();
+        replica.setPoolName("HikariPool-replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(@Value("${kittfinder.datasource.replica.max-lag:2s}") Duration maxLag) {
+        return new ReplicaLagGuard(maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagGuard lagGuard) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagGuard);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
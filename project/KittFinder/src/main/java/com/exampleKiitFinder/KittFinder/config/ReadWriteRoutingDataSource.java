@@ -0,0 +1,28 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Sends read-only transactions to the replica and everything else (writes, DDL, migrations,
+// work outside a transaction) to the primary. Must sit behind a LazyConnectionDataSourceProxy:
+// the JPA transaction manager asks for a connection before it marks the transaction read-only.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagGuard lagGuard;
+
+    public ReadWriteRoutingDataSource(ReplicaLagGuard lagGuard) {
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !lagGuard.replicaMayBeStaleForCurrentRead()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
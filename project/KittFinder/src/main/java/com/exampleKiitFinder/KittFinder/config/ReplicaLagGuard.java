@@ -0,0 +1,78 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import com.exampleKiitFinder.KittFinder.service.ItemChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Decides when a read-only transaction must stay on the primary because the replica may be up to max-lag behind.
+// Read-your-writes is per writer: a user who changed an item reads from the primary for max-lag, everyone
+// else keeps using the replica. Reads that fill the shared item caches stay on the primary for max-lag after
+// any item write, so no reader re-populates a cache from a replica that is behind.
+// Writers are remembered in memory on this instance only; behind a load balancer that needs sticky sessions.
+public class ReplicaLagGuard {
+    private final long maxLagNanos;
+    private final Cache<Long, Boolean> recentWriters;
+    private final ThreadLocal<Boolean> fillingCache = ThreadLocal.withInitial(() -> false);
+    private volatile long lastWriteNanos;
+    private volatile boolean written;
+
+    public ReplicaLagGuard(Duration maxLag) {
+        this.maxLagNanos = maxLag.toNanos();
+        this.recentWriters = Caffeine.newBuilder().expireAfterWrite(maxLag).build();
+    }
+
+    // Before commit, so the window is already open when the change becomes visible and caches are evicted
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        markWrite();
+    }
+
+    public void markWrite() {
+        lastWriteNanos = System.nanoTime();
+        written = true;
+        Long writer = currentUserId();
+        if (writer != null) {
+            recentWriters.put(writer, Boolean.TRUE);
+        }
+    }
+
+    // Any item write within max-lag, whoever made it
+    public boolean replicaMayBeStale() {
+        return written && System.nanoTime() - lastWriteNanos < maxLagNanos;
+    }
+
+    // For the read about to run on this thread
+    public boolean replicaMayBeStaleForCurrentRead() {
+        if (fillingCache.get()) {
+            return replicaMayBeStale();
+        }
+        Long reader = currentUserId();
+        return reader != null && recentWriters.getIfPresent(reader) != null;
+    }
+
+    // Runs a read whose result goes into a shared cache
+    public <T> T fillingCache(Supplier<T> read) {
+        boolean outer = fillingCache.get();
+        fillingCache.set(true);
+        try {
+            return read.get();
+        } finally {
+            fillingCache.set(outer);
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
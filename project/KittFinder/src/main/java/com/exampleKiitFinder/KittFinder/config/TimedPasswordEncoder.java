@@ -0,0 +1,43 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// Records how long each BCrypt hash and check takes; everything else is delegated unchanged
+public class TimedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = meterRegistry.timer("kittfinder.auth.bcrypt", "operation", "encode");
+        this.matchesTimer = meterRegistry.timer("kittfinder.auth.bcrypt", "operation", "matches");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            sample.stop(encodeTimer);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            sample.stop(matchesTimer);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,43 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    // A handler that returns a long-running StreamingResponseBody (e.g. the admin exports) sets this
+    // request attribute to its timeout in ms; every other async request keeps the container default
+    public static final String ASYNC_TIMEOUT_ATTRIBUTE = WebMvcConfig.class.getName() + ".asyncTimeout";
+
+    @Autowired
+    private CurrentUserArgumentResolver currentUserArgumentResolver;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                // Runs before the async request is started, while the timeout can still be changed
+                if (request instanceof AsyncWebRequest asyncRequest
+                        && request.getAttribute(ASYNC_TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long timeout) {
+                    asyncRequest.setTimeout(timeout);
+                }
+            }
+        });
+    }
+}
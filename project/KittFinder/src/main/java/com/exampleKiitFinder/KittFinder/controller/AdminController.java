@@ -2,22 +2,53 @@ package com.exampleKiitFinder.KittFinder.controller;
 
 import com.exampleKiitFinder.KittFinder.Repo.ItemRepository;
 import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.config.AuthenticatedUser;
+import com.exampleKiitFinder.KittFinder.config.CurrentUser;
+import com.exampleKiitFinder.KittFinder.config.PrincipalCache;
+import com.exampleKiitFinder.KittFinder.config.WebMvcConfig;
+import com.exampleKiitFinder.KittFinder.dto.BulkModerationResult;
+import com.exampleKiitFinder.KittFinder.dto.ItemImportResult;
+import com.exampleKiitFinder.KittFinder.dto.ItemPageResponse;
 import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import com.exampleKiitFinder.KittFinder.dto.UpdateItemStatusDto;
 import com.exampleKiitFinder.KittFinder.modell.Item;
+import com.exampleKiitFinder.KittFinder.modell.Role;
 import com.exampleKiitFinder.KittFinder.modell.User;
+import com.exampleKiitFinder.KittFinder.service.DataExportService;
+import com.exampleKiitFinder.KittFinder.service.DataFormat;
 import com.exampleKiitFinder.KittFinder.service.ItemService;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 @RestController
 @CrossOrigin(origins = "http://localhost:8081")
 @RequestMapping("/api/admin")
 public class AdminController {
+    // A full export can outlast the container's default async timeout
+    private static final long EXPORT_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+
     @Autowired
     private UserRepository userRepository;
     @Autowired
@@ -25,6 +56,15 @@ public class AdminController {
     
     @Autowired
     private ItemService itemService;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DataExportService dataExportService;
     
     @GetMapping("/users")
     @PreAuthorize("hasRole('ADMIN')")
@@ -35,11 +75,62 @@ public class AdminController {
     
     @GetMapping("/items")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ItemResponse>> getAllItems(){
-        List<ItemResponse> items = itemService.getAllItems();
-        return ResponseEntity.ok(items);
+    public ResponseEntity<ItemPageResponse> getAllItems(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "20") int size){
+        ItemPageResponse page = itemService.getItemsPage(cursor, size);
+        return ResponseEntity.ok(page);
     }
     
+    // Whole tables as NDJSON (default) or CSV, streamed row by row with constant memory
+    @GetMapping("/export/items")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportItems(@RequestParam(defaultValue = "ndjson") String format,
+                                                             HttpServletRequest request){
+        return export("items", format, request, dataExportService::exportItems);
+    }
+
+    @GetMapping("/export/users")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format,
+                                                             HttpServletRequest request){
+        return export("users", format, request, dataExportService::exportUsers);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String name, String format, HttpServletRequest request,
+                                                         BiConsumer<OutputStream, DataFormat> exporter){
+        DataFormat exportFormat;
+        try {
+            exportFormat = DataFormat.parse(format);
+        } catch (IllegalArgumentException e) {
+            // The streaming return type needs a streamed body, even for the error message
+            byte[] message = e.getMessage().getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(out -> out.write(message));
+        }
+        request.setAttribute(WebMvcConfig.ASYNC_TIMEOUT_ATTRIBUTE, EXPORT_TIMEOUT_MS);
+        String filename = name + "-" + LocalDate.now() + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(out -> exporter.accept(out, exportFormat));
+    }
+
+    // Bulk import of historical registers: CSV with a header row, or NDJSON, streamed from the request body.
+    // Items are posted by the importing admin; rows that fail are reported and the rest are imported.
+    @PostMapping("/import/items")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> importItems(@RequestParam(defaultValue = "ndjson") String format,
+                                         HttpServletRequest request,
+                                         @CurrentUser AuthenticatedUser currentUser) throws IOException {
+        DataFormat importFormat;
+        try {
+            importFormat = DataFormat.parse(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        ItemImportResult result = itemService.importItems(request.getInputStream(), importFormat, currentUser.getId());
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/users/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<String > deleteUser(@PathVariable Long id){
@@ -47,8 +138,22 @@ public class AdminController {
             return ResponseEntity.badRequest().body("User not found");
         }
         userRepository.deleteById(id);
+        principalCache.invalidate(id);
         return ResponseEntity.ok("User deleted successfully");
     }
+
+    @PutMapping("/users/{id}/role")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> updateUserRole(@PathVariable Long id, @RequestParam Role role){
+        User user = userRepository.findById(id).orElse(null);
+        if (user == null){
+            return ResponseEntity.badRequest().body("User not found");
+        }
+        user.setRole(role);
+        userRepository.save(user);
+        principalCache.invalidate(id);
+        return ResponseEntity.ok("User role updated successfully");
+    }
     
     @DeleteMapping("/item/{id}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -57,7 +162,7 @@ public class AdminController {
             return ResponseEntity.badRequest().body("Item not found");
 
         }
-        itemRepository.deleteById(id);
+        itemService.deleteItem(id);
         return ResponseEntity.ok("Item deleted Successfully");
     }
     
@@ -69,4 +174,34 @@ public class AdminController {
         List<ItemResponse> items = itemService.getItemsByUser(user);
         return ResponseEntity.ok(items);
     }
+
+    // Applies many moderation operations in one transaction with set-based statements
+    @PostMapping("/items/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<BulkModerationResult>> moderateItems(@RequestBody List<UpdateItemStatusDto> operations){
+        List<BulkModerationResult> results = itemService.moderateItems(operations);
+        return ResponseEntity.ok(results);
+    }
+
+    // Hit, miss and eviction counts of the item caches, used to size them
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Map<String, Object>>> getCacheStats(){
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                CacheStats cacheStats = nativeCache.stats();
+                Map<String, Object> values = new LinkedHashMap<>();
+                values.put("size", nativeCache.estimatedSize());
+                values.put("hits", cacheStats.hitCount());
+                values.put("misses", cacheStats.missCount());
+                values.put("hitRate", cacheStats.hitRate());
+                values.put("evictions", cacheStats.evictionCount());
+                stats.put(name, values);
+            }
+        }
+        return ResponseEntity.ok(stats);
+    }
 }
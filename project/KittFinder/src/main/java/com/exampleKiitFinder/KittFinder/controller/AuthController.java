@@ -6,12 +6,18 @@ import com.exampleKiitFinder.KittFinder.dto.RegisterRequest;
 import com.exampleKiitFinder.KittFinder.modell.Role;
 import com.exampleKiitFinder.KittFinder.modell.User;
 import com.exampleKiitFinder.KittFinder.service.AuthService;
+import com.exampleKiitFinder.KittFinder.service.AuthThrottledException;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @CrossOrigin(origins = "http://localhost:8081")
 @RequestMapping("/api/auth")
@@ -26,15 +32,31 @@ public class AuthController {
     private PasswordEncoder passwordEncoder;
 
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register(@RequestBody RegisterRequest request) {
-        AuthResponse response = authService.register(request);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<AuthResponse>> register(@RequestBody RegisterRequest request,
+                                                                    HttpServletRequest httpRequest) {
+        try {
+            return authService.register(request, httpRequest.getRemoteAddr()).thenApply(ResponseEntity::ok);
+        } catch (AuthThrottledException e) {
+            return CompletableFuture.completedFuture(throttled(e));
+        }
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody RegisterRequest request) {
-        AuthResponse response = authService.login(request.getEmail(), request.getPassword());
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@RequestBody RegisterRequest request,
+                                                                 HttpServletRequest httpRequest) {
+        try {
+            return authService.login(request.getEmail(), request.getPassword(), httpRequest.getRemoteAddr())
+                    .thenApply(ResponseEntity::ok);
+        } catch (AuthThrottledException e) {
+            return CompletableFuture.completedFuture(throttled(e));
+        }
+    }
+
+    private static ResponseEntity<AuthResponse> throttled(AuthThrottledException e) {
+        HttpStatus status = e.isOverloaded() ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.TOO_MANY_REQUESTS;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new AuthResponse(e.getMessage(), null));
     }
 
     @PostMapping("/create-admin")
@@ -0,0 +1,57 @@
+package com.exampleKiitFinder.KittFinder.controller;
+
+import com.exampleKiitFinder.KittFinder.service.ImageFormat;
+import com.exampleKiitFinder.KittFinder.service.ImageStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/images")
+@CrossOrigin(origins = "http://localhost:8081")
+public class ImageController {
+    // Keys are content hashes, so a stored image can be cached forever
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    // Served in place of a variant that has not been generated yet
+    private static final CacheControl FALLBACK = CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic();
+
+    @Autowired
+    private ImageStore imageStore;
+
+    // Returning a Resource lets Spring answer Range requests with 206 Partial Content
+    @GetMapping("/{key:.+}")
+    public ResponseEntity<Resource> getImage(@PathVariable String key,
+                                             @RequestParam(required = false) String variant){
+        ImageFormat format = ImageFormat.fromKey(key);
+        if (format == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        CacheControl cacheControl = IMMUTABLE;
+        Optional<Resource> image = Optional.empty();
+        if (variant != null) {
+            image = imageStore.loadVariant(key, variant);
+            if (image.isEmpty()) {
+                cacheControl = FALLBACK;
+            }
+        }
+        if (image.isEmpty()) {
+            image = imageStore.load(key);
+        }
+        if (image.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag("\"" + key + (cacheControl == IMMUTABLE && variant != null ? "-" + variant : "") + "\"")
+                .contentType(MediaType.parseMediaType(format.contentType))
+                .body(image.get());
+    }
+}
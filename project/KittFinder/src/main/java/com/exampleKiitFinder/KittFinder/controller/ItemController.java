@@ -1,93 +1,265 @@
 package com.exampleKiitFinder.KittFinder.controller;
 
 import com.exampleKiitFinder.KittFinder.Repo.ItemRepository;
+import com.exampleKiitFinder.KittFinder.config.AuthenticatedUser;
+import com.exampleKiitFinder.KittFinder.config.CurrentUser;
+import com.exampleKiitFinder.KittFinder.dto.ItemFacetsResponse;
+import com.exampleKiitFinder.KittFinder.dto.ItemFilter;
+import com.exampleKiitFinder.KittFinder.dto.ItemIdPageResponse;
+import com.exampleKiitFinder.KittFinder.dto.ItemListVersion;
+import com.exampleKiitFinder.KittFinder.dto.ItemMatchResponse;
+import com.exampleKiitFinder.KittFinder.dto.ItemPageResponse;
 import com.exampleKiitFinder.KittFinder.dto.ItemRequest;
 import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
 import com.exampleKiitFinder.KittFinder.modell.Item;
 import com.exampleKiitFinder.KittFinder.modell.User;
+import com.exampleKiitFinder.KittFinder.service.ApprovedFeedSnapshot;
+import com.exampleKiitFinder.KittFinder.service.ImageStore;
+import com.exampleKiitFinder.KittFinder.service.ImageVariantService;
+import com.exampleKiitFinder.KittFinder.service.ItemEventStream;
+import com.exampleKiitFinder.KittFinder.service.ItemFacetCounter;
 import com.exampleKiitFinder.KittFinder.service.ItemService;
-import com.exampleKiitFinder.KittFinder.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/items")
 @CrossOrigin(origins = "http://localhost:8081")
 public class ItemController {
+    // Clients may store responses but must revalidate them with If-None-Match / If-Modified-Since
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Autowired
     private ItemService itemService;
-    
+
+    @Autowired
+    private ApprovedFeedSnapshot feedSnapshot;
+
+    @Autowired
+    private ItemEventStream eventStream;
+
+    @Autowired
+    private ImageStore imageStore;
+
     @Autowired
-    private UserService userService;
+    private ImageVariantService imageVariantService;
     
+    // Filters: status, category, approved, postedBy, minReward, location, from, to.
+    // sort=field[,asc|desc] or page=N switch from cursor paging to page numbers; count=true adds the total.
     @GetMapping
-    public ResponseEntity<List<ItemResponse>> getAllItems(){
-        List<ItemResponse> items = itemService.getAllItems();
-        return ResponseEntity.ok(items);
+    public ResponseEntity<?> getAllItems(@RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") int size,
+                                         @RequestParam(required = false) Integer page,
+                                         @RequestParam(required = false) String sort,
+                                         @RequestParam(defaultValue = "false") boolean count,
+                                         ItemFilter filter,
+                                         WebRequest webRequest){
+        // Any create, update or delete changes max(updatedAt) or the row count
+        ItemListVersion version = itemService.getListVersion();
+        String query = new TreeMap<>(webRequest.getParameterMap()).entrySet().stream()
+                .map(parameter -> parameter.getKey() + "=" + String.join(",", parameter.getValue()))
+                .collect(Collectors.joining("&"));
+        String etag = "\"items-" + version.getTotal() + "-" + etagPart(version.getLastUpdated())
+                + "-" + Integer.toHexString(query.hashCode()) + "\"";
+        if (webRequest.checkNotModified(etag, epochMillis(version.getLastUpdated()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+
+        ItemPageResponse items;
+        try {
+            items = filter.isEmpty() && page == null && sort == null && !count
+                    ? itemService.getItemsPage(cursor, size)
+                    : itemService.findItems(filter, cursor, page, size, sort, count);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(items);
     }
     
+    // Public feed of the newest approved items (kittfinder.feed.size), served from a pre-serialized snapshot without
+    // touching the database. Older approved items are paged through GET /api/items?approved=true.
+    @GetMapping(value = "/feed", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getApprovedFeed(WebRequest webRequest){
+        ApprovedFeedSnapshot.Snapshot snapshot = feedSnapshot.get();
+        String etag = "\"feed-" + snapshot.getVersion() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getJson());
+    }
+
+    // Push created/updated/approved/deleted events instead of polling the list.
+    // Browsers resend Last-Event-ID on reconnect; other clients can pass lastEventId explicitly.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamItemEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                                       @RequestParam(required = false) String lastEventId){
+        return eventStream.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<ItemResponse>> searchItems(@RequestParam("q") String query,
+                                                          @RequestParam(defaultValue = "0") int page,
+                                                          @RequestParam(defaultValue = "20") int size){
+        List<ItemResponse> items = itemService.searchItems(query, page, size);
+        return ResponseEntity.ok(items);
+    }
+
+    // status/category take comma-separated values (OR-ed); results are newest (highest id) first
+    @GetMapping("/by-attributes")
+    public ResponseEntity<ItemIdPageResponse> getItemsByAttributes(@RequestParam(required = false) List<String> status,
+                                                                   @RequestParam(required = false) List<String> category,
+                                                                   @RequestParam(required = false) Boolean approved,
+                                                                   @RequestParam(required = false) Long afterId,
+                                                                   @RequestParam(defaultValue = "20") int size){
+        return ResponseEntity.ok(itemService.findByAttributes(status, category, approved, afterId, size));
+    }
+
+    @GetMapping("/by-attributes/count")
+    public ResponseEntity<Map<String, Long>> countItemsByAttributes(@RequestParam(required = false) List<String> status,
+                                                                    @RequestParam(required = false) List<String> category,
+                                                                    @RequestParam(required = false) Boolean approved){
+        return ResponseEntity.ok(Map.of("count", itemService.countByAttributes(status, category, approved)));
+    }
+
+    // Sidebar counts per approved/status/category/location for the given filter. Locations are counted by
+    // campus location code, "other" for the rest; location= takes a code, place name, alias or "other".
+    // source=database recomputes them with a GROUP BY to check the in-memory counters.
+    @GetMapping("/facets")
+    public ResponseEntity<ItemFacetsResponse> getFacets(@RequestParam(required = false) Boolean approved,
+                                                        @RequestParam(required = false) String status,
+                                                        @RequestParam(required = false) String category,
+                                                        @RequestParam(required = false) String location,
+                                                        @RequestParam(defaultValue = ItemFacetCounter.SOURCE_COUNTERS) String source){
+        boolean fromDatabase = ItemFacetCounter.SOURCE_DATABASE.equalsIgnoreCase(source);
+        return ResponseEntity.ok(itemService.getFacets(approved, status, category, location, fromDatabase));
+    }
+
+    // Only finds items that have coordinates: those posted or imported with a latitude and longitude, and those
+    // at a place that has coordinates in kittfinder.locations.file. The bundled campus list has none until the
+    // places are surveyed, so for now only items pinned by their posters are found; the rest never match.
+    @GetMapping("/near")
+    public ResponseEntity<?> getItemsNear(@RequestParam double lat, @RequestParam double lng,
+                                         @RequestParam(defaultValue = "500") double radius,
+                                         @RequestParam(defaultValue = "20") int limit){
+        try {
+            return ResponseEntity.ok(itemService.findNearby(lat, lng, radius, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<List<ItemMatchResponse>> getMatches(@PathVariable Long id,
+                                                              @RequestParam(defaultValue = "10") int limit){
+        return ResponseEntity.ok(itemService.getMatches(id, limit));
+    }
+
     @PostMapping
-    public ResponseEntity<ItemResponse> createItem(@RequestBody ItemRequest itemRequest){
-        // Get current authenticated user
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String userEmail = authentication.getName();
-        User currentUser = userService.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        ItemResponse item = itemService.createItem(itemRequest, currentUser);
-        return ResponseEntity.ok(item);
+    public ResponseEntity<?> createItem(@RequestBody ItemRequest itemRequest, @CurrentUser User currentUser){
+        try {
+            ItemResponse item = itemService.createItem(itemRequest, currentUser);
+            return ResponseEntity.ok(item);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<ItemResponse> getItemById(@PathVariable Long id){
+    public ResponseEntity<ItemResponse> getItemById(@PathVariable Long id, WebRequest webRequest){
         ItemResponse item = itemService.getItemById(id);
-        return ResponseEntity.ok(item);
+        LocalDateTime updatedAt = item.getUpdatedAt() != null ? LocalDateTime.parse(item.getUpdatedAt()) : null;
+        String etag = "\"item-" + item.getId() + "-" + etagPart(updatedAt) + "\"";
+        if (webRequest.checkNotModified(etag, epochMillis(updatedAt))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(item);
     }
     
     @DeleteMapping("/{id}")
-    public ResponseEntity<String> deleteItem(@PathVariable Long id){
-        // Get current authenticated user for authorization check
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String userEmail = authentication.getName();
-        User currentUser = userService.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // Check if user owns the item or is admin
-        ItemResponse item = itemService.getItemById(id);
-        if (!Objects.equals(item.getPostedById(), currentUser.getId()) &&
-            !currentUser.getRole().name().equals("ADMIN")) {
+    public ResponseEntity<String> deleteItem(@PathVariable Long id, @CurrentUser AuthenticatedUser currentUser){
+        // Only the owner or an admin can delete; checked by the DELETE statement itself
+        if (!itemService.deleteItem(id, currentUser.getId(), currentUser.getRole())) {
             return ResponseEntity.status(403).body("You don't have permission to delete this item");
         }
-        
-        itemService.deleteItem(id);
         return ResponseEntity.ok("Item deleted successfully");
     }
     
     @GetMapping("/my-items")
-    public ResponseEntity<List<ItemResponse>> getMyItems(){
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String userEmail = authentication.getName();
-        User currentUser = userService.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        List<ItemResponse> items = itemService.getItemsByUser(currentUser);
+    public ResponseEntity<List<ItemResponse>> getMyItems(@CurrentUser AuthenticatedUser currentUser){
+        List<ItemResponse> items = itemService.getItemsByUserId(currentUser.getId());
         return ResponseEntity.ok(items);
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<ItemResponse> updateItem(@PathVariable Long id, @RequestBody ItemRequest itemRequest){
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String userEmail = authentication.getName();
-        User currentUser = userService.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        ItemResponse updatedItem = itemService.updateItem(id, itemRequest, currentUser);
+    public ResponseEntity<?> updateItem(@PathVariable Long id, @RequestBody ItemRequest itemRequest,
+                                        @CurrentUser AuthenticatedUser currentUser){
+        try {
+            ItemResponse updatedItem = itemService.updateItem(id, itemRequest, currentUser.getId(), currentUser.getRole());
+            return ResponseEntity.ok(updatedItem);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping(value = "/{id}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> uploadImage(@PathVariable Long id, @RequestParam("file") MultipartFile file,
+                                         @CurrentUser AuthenticatedUser currentUser) throws IOException {
+        // Refuse before anything is written, so uploads to other people's items leave no files behind
+        itemService.checkCanUpdateItem(id, currentUser.getId(), currentUser.getRole());
+
+        // Multipart parts are spooled to disk by the container; this copies that stream into the store
+        ImageStore.StoredImage image;
+        try (InputStream in = file.getInputStream()) {
+            image = imageStore.store(in);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+        ItemResponse updatedItem;
+        try {
+            updatedItem = itemService.updateItemImage(id, "/api/images/" + image.key(),
+                    currentUser.getId(), currentUser.getRole());
+        } catch (RuntimeException e) {
+            // The item went away after the check; drop the file unless it was already stored for another item
+            if (image.created()) {
+                imageStore.delete(image.key());
+            }
+            throw e;
+        }
+        imageVariantService.generateAsync(image.key());
         return ResponseEntity.ok(updatedItem);
     }
+
+    // Microsecond precision, matching what the database stores
+    private static String etagPart(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return "0";
+        }
+        Instant instant = timestamp.atZone(ZoneId.systemDefault()).toInstant();
+        return Long.toString(instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000);
+    }
+
+    private static long epochMillis(LocalDateTime timestamp) {
+        return timestamp != null ? timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
 }
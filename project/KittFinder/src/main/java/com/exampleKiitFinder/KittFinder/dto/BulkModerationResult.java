@@ -0,0 +1,49 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+public class BulkModerationResult {
+    private Long itemId;
+    private ModerationAction action;
+    private boolean success;
+    private String message;
+
+    public BulkModerationResult(){}
+
+    public BulkModerationResult(Long itemId, ModerationAction action, boolean success, String message) {
+        this.itemId = itemId;
+        this.action = action;
+        this.success = success;
+        this.message = message;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public ModerationAction getAction() {
+        return action;
+    }
+
+    public void setAction(ModerationAction action) {
+        this.action = action;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,10 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+// One GROUP BY row of ItemRepository.countFacets
+public interface ItemFacetCount {
+    boolean getApproved();
+    String getStatus();
+    String getCategory();
+    String getLocationCode();
+    long getTotal();
+}
@@ -0,0 +1,74 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+import java.util.Map;
+
+public class ItemFacetsResponse {
+    // Items matching every filter
+    private long total;
+    // Each facet is counted with all filters except its own, so the other values stay selectable
+    private Map<String, Long> approved;
+    private Map<String, Long> status;
+    private Map<String, Long> category;
+    private Map<String, Long> location;
+    // "counters" or "database"
+    private String source;
+
+    public ItemFacetsResponse(){}
+
+    public ItemFacetsResponse(long total, Map<String, Long> approved, Map<String, Long> status, Map<String, Long> category, Map<String, Long> location, String source) {
+        this.total = total;
+        this.approved = approved;
+        this.status = status;
+        this.category = category;
+        this.location = location;
+        this.source = source;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<String, Long> getApproved() {
+        return approved;
+    }
+
+    public void setApproved(Map<String, Long> approved) {
+        this.approved = approved;
+    }
+
+    public Map<String, Long> getStatus() {
+        return status;
+    }
+
+    public void setStatus(Map<String, Long> status) {
+        this.status = status;
+    }
+
+    public Map<String, Long> getCategory() {
+        return category;
+    }
+
+    public void setCategory(Map<String, Long> category) {
+        this.category = category;
+    }
+
+    public Map<String, Long> getLocation() {
+        return location;
+    }
+
+    public void setLocation(Map<String, Long> location) {
+        this.location = location;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+}
@@ -0,0 +1,89 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+// Optional filters for GET /api/items, bound from query parameters. Null means "any".
+public class ItemFilter {
+    private String status;
+    private String category;
+    private Boolean approved;
+    private Long postedBy;
+    private Double minReward;
+    private String location;
+    // ISO date or date-time; a bare "to" date includes that whole day
+    private String from;
+    private String to;
+
+    public ItemFilter(){}
+
+    public boolean isEmpty() {
+        return isBlank(status) && isBlank(category) && approved == null && postedBy == null
+                && minReward == null && isBlank(location) && isBlank(from) && isBlank(to);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Boolean getApproved() {
+        return approved;
+    }
+
+    public void setApproved(Boolean approved) {
+        this.approved = approved;
+    }
+
+    public Long getPostedBy() {
+        return postedBy;
+    }
+
+    public void setPostedBy(Long postedBy) {
+        this.postedBy = postedBy;
+    }
+
+    public Double getMinReward() {
+        return minReward;
+    }
+
+    public void setMinReward(Double minReward) {
+        this.minReward = minReward;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+}
@@ -0,0 +1,42 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+import java.util.List;
+
+// A page in id-descending order; pass nextAfterId as afterId for the following page
+public class ItemIdPageResponse {
+    private List<ItemResponse> items;
+    private Long nextAfterId;
+    private boolean hasMore;
+
+    public ItemIdPageResponse(){}
+
+    public ItemIdPageResponse(List<ItemResponse> items, Long nextAfterId, boolean hasMore) {
+        this.items = items;
+        this.nextAfterId = nextAfterId;
+        this.hasMore = hasMore;
+    }
+
+    public List<ItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ItemResponse> items) {
+        this.items = items;
+    }
+
+    public Long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public void setNextAfterId(Long nextAfterId) {
+        this.nextAfterId = nextAfterId;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,30 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+// A row that was not imported; row is the CSV row (header = 1) or NDJSON line number
+public class ItemImportError {
+    private long row;
+    private String message;
+
+    public ItemImportError(){}
+
+    public ItemImportError(long row, String message) {
+        this.row = row;
+        this.message = message;
+    }
+
+    public long getRow() {
+        return row;
+    }
+
+    public void setRow(long row) {
+        this.row = row;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
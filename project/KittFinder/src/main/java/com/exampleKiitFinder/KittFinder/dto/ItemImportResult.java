@@ -0,0 +1,52 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+import java.util.List;
+
+// errors lists failed rows in input order, up to a cap; errorsTruncated is set when more rows failed
+public class ItemImportResult {
+    private long imported;
+    private long failed;
+    private List<ItemImportError> errors;
+    private boolean errorsTruncated;
+
+    public ItemImportResult(){}
+
+    public ItemImportResult(long imported, long failed, List<ItemImportError> errors, boolean errorsTruncated) {
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<ItemImportError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ItemImportError> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+}
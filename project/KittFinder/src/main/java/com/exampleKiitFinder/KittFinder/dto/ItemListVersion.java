@@ -0,0 +1,9 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+import java.time.LocalDateTime;
+
+// Aggregate that changes whenever any item is created, updated or deleted
+public interface ItemListVersion {
+    LocalDateTime getLastUpdated();
+    long getTotal();
+}
@@ -0,0 +1,29 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+public class ItemMatchResponse {
+    private ItemResponse item;
+    private double score;
+
+    public ItemMatchResponse(){}
+
+    public ItemMatchResponse(ItemResponse item, double score) {
+        this.item = item;
+        this.score = score;
+    }
+
+    public ItemResponse getItem() {
+        return item;
+    }
+
+    public void setItem(ItemResponse item) {
+        this.item = item;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,64 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public class ItemPageResponse {
+    private List<ItemResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+    // Only for page-numbered (non-keyset) requests; total only when count=true
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer page;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long total;
+
+    public ItemPageResponse(){}
+
+    public ItemPageResponse(List<ItemResponse> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<ItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ItemResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+}
@@ -7,6 +7,9 @@ public class ItemRequest {
     private String category;
     private String status;
     private Double reward;
+    // Optional pin; overrides the surveyed coordinates of the named place
+    private Double latitude;
+    private Double longitude;
 
 public ItemRequest(){}
 
@@ -66,4 +69,20 @@ public ItemRequest(){}
     public void setReward(Double reward) {
         this.reward = reward;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
 }
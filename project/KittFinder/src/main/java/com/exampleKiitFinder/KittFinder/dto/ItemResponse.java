@@ -1,26 +1,35 @@
 package com.exampleKiitFinder.KittFinder.dto;
 
+import java.time.LocalDateTime;
+
 public class ItemResponse {
     private Long id;
     private String name;
     private String description;
     private String location;
     private String category;
+    private String status;
+    private boolean approved;
     private String imageUrl;
     private String createAt;
     private String updatedAt;
     private Double reward;
     private String postedByName;
     private Long postedById;
+    private String locationCode;
+    private Double latitude;
+    private Double longitude;
     
     public ItemResponse(){}
 
-    public ItemResponse(Long id, String name, String description, String location, String category, String imageUrl, String createAt, String updatedAt, Double reward, String postedByName, Long postedById) {
+    public ItemResponse(Long id, String name, String description, String location, String category, String status, boolean approved, String imageUrl, String createAt, String updatedAt, Double reward, String postedByName, Long postedById) {
         this.id = id;
         this.name = name;
         this.description = description;
         this.location = location;
         this.category = category;
+        this.status = status;
+        this.approved = approved;
         this.imageUrl = imageUrl;
         this.createAt = createAt;
         this.updatedAt = updatedAt;
@@ -29,6 +38,21 @@ public class ItemResponse {
         this.postedById = postedById;
     }
 
+    // Used by the JPQL constructor projections in ItemRepository
+    public ItemResponse(Long id, String name, String description, String location, String category, String status, boolean approved, String imageUrl, LocalDateTime createdAt, LocalDateTime updatedAt, Double reward, String postedByName, Long postedById) {
+        this(id, name, description, location, category, status, approved, imageUrl,
+                createdAt != null ? createdAt.toString() : null,
+                updatedAt != null ? updatedAt.toString() : null,
+                reward, postedByName, postedById);
+    }
+
+    public ItemResponse(Long id, String name, String description, String location, String category, String status, boolean approved, String imageUrl, LocalDateTime createdAt, LocalDateTime updatedAt, Double reward, String postedByName, Long postedById, String locationCode, Double latitude, Double longitude) {
+        this(id, name, description, location, category, status, approved, imageUrl, createdAt, updatedAt, reward, postedByName, postedById);
+        this.locationCode = locationCode;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     public Long getId() {
         return id;
     }
@@ -69,6 +93,22 @@ public class ItemResponse {
         this.category = category;
     }
 
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public boolean isApproved() {
+        return approved;
+    }
+
+    public void setApproved(boolean approved) {
+        this.approved = approved;
+    }
+
     public String getImageUrl() {
         return imageUrl;
     }
@@ -116,4 +156,28 @@ public class ItemResponse {
     public void setPostedById(Long postedById) {
         this.postedById = postedById;
     }
+
+    public String getLocationCode() {
+        return locationCode;
+    }
+
+    public void setLocationCode(String locationCode) {
+        this.locationCode = locationCode;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
 }
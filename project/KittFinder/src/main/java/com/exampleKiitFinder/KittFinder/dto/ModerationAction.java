@@ -0,0 +1,8 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+public enum ModerationAction {
+    APPROVE,
+    REJECT,
+    SET_STATUS,
+    DELETE
+}
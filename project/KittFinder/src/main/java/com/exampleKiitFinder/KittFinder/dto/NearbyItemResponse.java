@@ -0,0 +1,29 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+public class NearbyItemResponse {
+    private ItemResponse item;
+    private double distanceMeters;
+
+    public NearbyItemResponse(){}
+
+    public NearbyItemResponse(ItemResponse item, double distanceMeters) {
+        this.item = item;
+        this.distanceMeters = distanceMeters;
+    }
+
+    public ItemResponse getItem() {
+        return item;
+    }
+
+    public void setItem(ItemResponse item) {
+        this.item = item;
+    }
+
+    public double getDistanceMeters() {
+        return distanceMeters;
+    }
+
+    public void setDistanceMeters(double distanceMeters) {
+        this.distanceMeters = distanceMeters;
+    }
+}
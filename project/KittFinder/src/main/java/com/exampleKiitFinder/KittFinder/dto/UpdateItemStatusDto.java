@@ -3,6 +3,7 @@ package com.exampleKiitFinder.KittFinder.dto;
 public class UpdateItemStatusDto {
     private Long itemId;
     private String status;
+    private ModerationAction action;
 
     public UpdateItemStatusDto(){}
 
@@ -11,6 +12,12 @@ public class UpdateItemStatusDto {
         this.status = status;
     }
 
+    public UpdateItemStatusDto(Long itemId, String status, ModerationAction action) {
+        this.itemId = itemId;
+        this.status = status;
+        this.action = action;
+    }
+
     public Long getItemId() {
         return itemId;
     }
@@ -26,4 +33,12 @@ public class UpdateItemStatusDto {
     public void setStatus(String status) {
         this.status = status;
     }
+
+    public ModerationAction getAction() {
+        return action;
+    }
+
+    public void setAction(ModerationAction action) {
+        this.action = action;
+    }
 }
@@ -0,0 +1,66 @@
+package com.exampleKiitFinder.KittFinder.modell;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// One place from the campus location file (kittfinder.locations.file)
+public class CampusLocation {
+    private String code;
+    private String name;
+    // CAMPUS, BUILDING or ZONE
+    private String kind;
+    // Surveyed centre of the place; null until someone has measured it
+    private Double latitude;
+    private Double longitude;
+    private Set<String> aliases = new HashSet<>();
+
+    public CampusLocation(){}
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Set<String> getAliases() {
+        return aliases;
+    }
+
+    public void setAliases(Set<String> aliases) {
+        this.aliases = aliases;
+    }
+}
@@ -7,8 +7,14 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "items")
 public class Item {
+    // Ids are reserved this many at a time (one generator round trip per block), which lets inserts be batched.
+    // V5 seeds id_generators with the same step; a restart skips at most one block.
+    public static final int ID_ALLOCATION_SIZE = 1000;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableGenerator(name = "item_ids", table = "id_generators", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "items", allocationSize = ID_ALLOCATION_SIZE)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "item_ids")
     private Long id;
 
     private String title;
@@ -18,6 +24,11 @@ public class Item {
     private String imageUrl;
 
     private String location;
+    // Resolved campus place, when the location text matched the location file
+    @Column(length = 32)
+    private String locationCode;
+    private Double latitude;
+    private Double longitude;
     @Column(name = "reward")
     private Double reward;
     private String status;
@@ -94,6 +105,30 @@ public class Item {
         this.location = location;
     }
 
+    public String getLocationCode() {
+        return locationCode;
+    }
+
+    public void setLocationCode(String locationCode) {
+        this.locationCode = locationCode;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     public String getStatus() {
         return status;
     }
@@ -0,0 +1,48 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Collects the values a listener receives during one transaction and hands them over in a single call after
+// the commit, so per-change work such as copying a snapshot runs once per transaction instead of once per item.
+// Outside a transaction a value is handed over at once; the values of a rolled-back transaction are dropped.
+final class AfterCommitBatcher<T> {
+    private final Consumer<List<T>> apply;
+
+    AfterCommitBatcher(Consumer<List<T>> apply) {
+        this.apply = apply;
+    }
+
+    void add(T value) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.accept(List.of(value));
+            return;
+        }
+        // Bound to the transaction under this batcher as key, so finding the batch does not scan the synchronizations
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.values.add(value);
+    }
+
+    private final class Pending implements TransactionSynchronization {
+        private final List<T> values = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            apply.accept(values);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AfterCommitBatcher.this);
+        }
+    }
+}
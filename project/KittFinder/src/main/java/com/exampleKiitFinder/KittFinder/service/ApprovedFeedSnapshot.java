@@ -0,0 +1,232 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.Repo.ItemRepository;
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Immutable, pre-serialized JSON array of the newest approved items (kittfinder.feed.size of them), swapped
+// atomically on change. Reads are a volatile load. A transaction's changes are applied together after it commits:
+// only the changed items are re-serialized, and the window is re-joined once per transaction, so the cost of a
+// change is bounded by the feed size, not by the number of approved items.
+@Component
+public class ApprovedFeedSnapshot implements ItemView {
+
+    public static final class Snapshot {
+        private final long version;
+        private final int size;
+        private final byte[] json;
+
+        private Snapshot(long version, Collection<byte[]> entries) {
+            this.version = version;
+            this.size = entries.size();
+            this.json = join(entries);
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // Callers must not modify the returned array
+        public byte[] getJson() {
+            return json;
+        }
+    }
+
+    private record FeedKey(String createdAt, Long id) {
+    }
+
+    // Newest first, matching the (createdAt desc, id desc) order of the item listings
+    private static final Comparator<FeedKey> FEED_ORDER = Comparator
+            .comparing(FeedKey::createdAt, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(FeedKey::id)
+            .reversed();
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private int feedSize;
+
+    // Versions start from the boot time so ETags from a previous run never match a new snapshot
+    private final AtomicReference<Snapshot> current =
+            new AtomicReference<>(new Snapshot(System.currentTimeMillis(), List.of()));
+    // Serializes writers and guards the window below; readers never take it
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AfterCommitBatcher<ItemChangedEvent> changes = new AfterCommitBatcher<>(this::apply);
+    private final RebuildLog rebuildLog = new RebuildLog();
+
+    // The items the published snapshot was joined from
+    private final TreeMap<FeedKey, byte[]> window = new TreeMap<>(FEED_ORDER);
+    private final Map<Long, FeedKey> keys = new HashMap<>();
+    // False when approved items older than the window exist; a window that shrinks is then refilled from the database
+    private boolean complete = true;
+
+    @Value("${kittfinder.feed.size:100}")
+    void setFeedSize(int feedSize) {
+        if (feedSize <= 0) {
+            throw new IllegalArgumentException("kittfinder.feed.size must be positive: " + feedSize);
+        }
+        this.feedSize = feedSize;
+    }
+
+    public Snapshot get() {
+        return current.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        beginRebuild();
+        rebuild(newestApproved());
+    }
+
+    @Override
+    public void beginRebuild() {
+        writeLock.lock();
+        try {
+            rebuildLog.begin();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Items that are not approved are skipped, so the full item list can be passed
+    @Override
+    public void rebuild(List<ItemResponse> items) {
+        writeLock.lock();
+        try {
+            fill(items);
+            applyInternal(rebuildLog.finish());
+            publish();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Plain listener: the batcher defers the change to the commit itself
+    @EventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        changes.add(event);
+    }
+
+    private void apply(List<ItemChangedEvent> events) {
+        writeLock.lock();
+        try {
+            events.forEach(rebuildLog::record);
+            if (applyInternal(events)) {
+                publish();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Returns whether the window changed
+    private boolean applyInternal(List<ItemChangedEvent> events) {
+        boolean changed = false;
+        for (ItemChangedEvent event : events) {
+            FeedKey previous = keys.remove(event.getItemId());
+            if (previous != null) {
+                window.remove(previous);
+                changed = true;
+            }
+            ItemResponse item = event.getItem();
+            if (item != null && item.isApproved()) {
+                changed |= admit(item);
+            }
+        }
+        if (!complete && window.size() < feedSize) {
+            // Removals opened a gap that only the database can fill. Runs under the write lock, after the commit
+            // that caused it; a change committed meanwhile is applied after this and is not lost.
+            fill(newestApproved());
+            changed = true;
+        }
+        return changed;
+    }
+
+    // An item older than an incomplete window's last entry stays out, since items between the two are missing
+    private boolean admit(ItemResponse item) {
+        FeedKey key = new FeedKey(item.getCreateAt(), item.getId());
+        boolean fits = window.isEmpty() ? complete : FEED_ORDER.compare(key, window.lastKey()) < 0;
+        if (!fits && !(complete && window.size() < feedSize)) {
+            complete = false;
+            return false;
+        }
+        window.put(key, serialize(item));
+        keys.put(item.getId(), key);
+        if (window.size() > feedSize) {
+            keys.remove(window.pollLastEntry().getKey().id());
+            complete = false;
+        }
+        return true;
+    }
+
+    private void fill(List<ItemResponse> items) {
+        window.clear();
+        keys.clear();
+        List<ItemResponse> approved = items.stream()
+                .filter(ItemResponse::isApproved)
+                .sorted(Comparator.comparing(item -> new FeedKey(item.getCreateAt(), item.getId()), FEED_ORDER))
+                .toList();
+        for (ItemResponse item : approved.subList(0, Math.min(feedSize, approved.size()))) {
+            FeedKey key = new FeedKey(item.getCreateAt(), item.getId());
+            window.put(key, serialize(item));
+            keys.put(item.getId(), key);
+        }
+        complete = approved.size() <= feedSize;
+    }
+
+    // One row past the window tells whether the window holds every approved item
+    private List<ItemResponse> newestApproved() {
+        return itemRepository.findApprovedPage(PageRequest.of(0, feedSize + 1));
+    }
+
+    private void publish() {
+        current.set(new Snapshot(current.get().version + 1, window.values()));
+    }
+
+    private byte[] serialize(ItemResponse item) {
+        try {
+            return objectMapper.writeValueAsBytes(item);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize item " + item.getId(), e);
+        }
+    }
+
+    private static byte[] join(Iterable<byte[]> items) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('[');
+        boolean first = true;
+        for (byte[] item : items) {
+            if (!first) {
+                out.write(',');
+            }
+            out.write(item, 0, item.length);
+            first = false;
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+}
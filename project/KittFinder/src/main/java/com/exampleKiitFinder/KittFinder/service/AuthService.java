@@ -1,6 +1,7 @@
 package com.exampleKiitFinder.KittFinder.service;
 
 import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.config.AuthenticatedUser;
 import com.exampleKiitFinder.KittFinder.config.JwtUtil;
 import com.exampleKiitFinder.KittFinder.dto.AuthResponse;
 import com.exampleKiitFinder.KittFinder.dto.RegisterRequest;
@@ -15,6 +16,8 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class AuthService {
     @Autowired
@@ -27,29 +30,39 @@ public class AuthService {
     @Autowired
     private AuthenticationManager authenticationManager;
 
-    public AuthResponse register(RegisterRequest request) {
+    @Autowired
+    private PasswordHashingExecutor hashingExecutor;
+
+    // BCrypt runs on the hashing executor; the servlet thread is released while it waits
+    public CompletableFuture<AuthResponse> register(RegisterRequest request, String clientIp) {
         if (userRepository.findByEmail(request.getEmail()).isPresent()){
             throw  new RuntimeException("Email already registered");
         }
-        User user = new User();
-        user.setName(request.getName());
-        user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setRole(Role.USER);
-        userRepository.save(user);
-
-        String token = jwtUtil.generateToken(user.getEmail());
-        return new AuthResponse("User registered successfully ",token);
+        return hashingExecutor.submit(clientIp, request.getEmail(), () -> {
+            User user = new User();
+            user.setName(request.getName());
+            user.setEmail(request.getEmail());
+            user.setPassword(passwordEncoder.encode(request.getPassword()));
+            user.setRole(Role.USER);
+            userRepository.save(user);
+
+            String token = jwtUtil.generateToken(user.getEmail(), user.getId(), user.getRole());
+            return new AuthResponse("User registered successfully ",token);
+        });
     }
-    public AuthResponse login(String email,String password){
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(email,password)
-            );
-            String token = jwtUtil.generateToken(email);
-            return new AuthResponse("Login successful",token);
-        }catch (AuthenticationException ex){
-            throw new RuntimeException("Invalid Credential");
-        }
+
+    public CompletableFuture<AuthResponse> login(String email, String password, String clientIp){
+        return hashingExecutor.submit(clientIp, email, () -> {
+            try {
+                Authentication authentication = authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(email,password)
+                );
+                AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+                String token = jwtUtil.generateToken(principal.getUsername(), principal.getId(), principal.getRole());
+                return new AuthResponse("Login successful",token);
+            }catch (AuthenticationException ex){
+                throw new RuntimeException("Invalid Credential");
+            }
+        });
     }
 }
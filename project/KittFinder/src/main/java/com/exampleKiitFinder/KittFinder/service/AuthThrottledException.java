@@ -0,0 +1,16 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+// Raised before any hashing work is queued, so a rejected login costs almost nothing
+public class AuthThrottledException extends RuntimeException {
+    // true when the whole hashing pool is saturated (503); false for a per-client limit (429)
+    private final boolean overloaded;
+
+    public AuthThrottledException(String message, boolean overloaded) {
+        super(message);
+        this.overloaded = overloaded;
+    }
+
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+}
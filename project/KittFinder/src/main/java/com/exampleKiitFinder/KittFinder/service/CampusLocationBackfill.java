@@ -0,0 +1,55 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.Repo.ItemRepository;
+import com.exampleKiitFinder.KittFinder.modell.CampusLocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// Resolves rows written before their place (or alias) was in the location file with the same longest-alias
+// match the write path uses, and gives rows at a place the coordinates it gained since. Runs before the
+// in-memory views are built so they see the codes; each run only touches rows that are still unresolved.
+@Component
+public class CampusLocationBackfill {
+    private static final Logger log = LoggerFactory.getLogger(CampusLocationBackfill.class);
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CampusLocationDirectory locationDirectory;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void backfill() {
+        int resolved = 0;
+        for (String location : itemRepository.findUnresolvedLocations()) {
+            CampusLocation place = locationDirectory.resolve(location).orElse(null);
+            if (place != null) {
+                resolved += itemRepository.setLocationCode(location, place.getCode());
+            }
+        }
+        int located = 0;
+        int placesWithCoordinates = 0;
+        for (CampusLocation place : locationDirectory.places()) {
+            if (place.getLatitude() != null && place.getLongitude() != null) {
+                placesWithCoordinates++;
+                located += itemRepository.fillCoordinates(place.getCode(), place.getLatitude(), place.getLongitude());
+            }
+        }
+        if (resolved > 0 || located > 0) {
+            log.info("Location backfill: {} items resolved to a campus place, {} given coordinates", resolved, located);
+        }
+        if (placesWithCoordinates == 0) {
+            log.info("No place in the location file has coordinates; GET /api/items/near only finds items posted "
+                    + "or imported with a latitude and longitude");
+        }
+    }
+}
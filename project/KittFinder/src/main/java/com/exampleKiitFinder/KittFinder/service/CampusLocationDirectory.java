@@ -0,0 +1,85 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.modell.CampusLocation;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// The campus places from kittfinder.locations.file (a JSON list of code, name, kind, aliases and, once
+// surveyed, latitude/longitude), read once at startup. Resolves free-text locations such as
+// "near C-15 library" to a known place by name, code or alias.
+@Component
+public class CampusLocationDirectory {
+
+    private final List<CampusLocation> places;
+    private final Map<String, CampusLocation> byAlias = new HashMap<>();
+    // Token count of the longest key
+    private final int longest;
+
+    public CampusLocationDirectory(@Value("${kittfinder.locations.file:classpath:campus-locations.json}") Resource file,
+                                   ObjectMapper objectMapper) throws IOException {
+        List<CampusLocation> loaded;
+        try (InputStream in = file.getInputStream()) {
+            loaded = objectMapper.readValue(in, new TypeReference<List<CampusLocation>>() {
+            });
+        }
+        int longestKey = 0;
+        for (CampusLocation location : loaded) {
+            for (String alias : location.getAliases()) {
+                longestKey = Math.max(longestKey, put(byAlias, alias, location));
+            }
+            longestKey = Math.max(longestKey, put(byAlias, location.getName(), location));
+            longestKey = Math.max(longestKey, put(byAlias, location.getCode(), location));
+        }
+        places = List.copyOf(loaded);
+        longest = longestKey;
+    }
+
+    public List<CampusLocation> places() {
+        return places;
+    }
+
+    // Lower-case tokens joined by single spaces: "Campus-15 " -> "campus 15"
+    public static String normalize(String text) {
+        return String.join(" ", ItemSearchIndex.tokenize(text));
+    }
+
+    // Exact match first, otherwise the longest alias that appears as a run of whole tokens in the text
+    public Optional<CampusLocation> resolve(String text) {
+        List<String> tokens = ItemSearchIndex.tokenize(text);
+        if (tokens.isEmpty()) {
+            return Optional.empty();
+        }
+        CampusLocation exact = byAlias.get(String.join(" ", tokens));
+        if (exact != null) {
+            return Optional.of(exact);
+        }
+        for (int length = Math.min(longest, tokens.size()); length > 0; length--) {
+            for (int start = 0; start + length <= tokens.size(); start++) {
+                CampusLocation match = byAlias.get(String.join(" ", tokens.subList(start, start + length)));
+                if (match != null) {
+                    return Optional.of(match);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static int put(Map<String, CampusLocation> aliases, String alias, CampusLocation location) {
+        String key = normalize(alias);
+        if (key.isEmpty()) {
+            return 0;
+        }
+        aliases.putIfAbsent(key, location);
+        return key.split(" ").length;
+    }
+}
@@ -1,32 +1,56 @@
 package com.exampleKiitFinder.KittFinder.service;
 
 import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.config.AuthenticatedUser;
 import com.exampleKiitFinder.KittFinder.modell.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-
-import java.util.Collections;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class CustomUserDetailService implements UserDetailsService {
+public class CustomUserDetailService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final Timer loadUserTimer;
     @Autowired
-    public CustomUserDetailService(UserRepository userRepository){
+    public CustomUserDetailService(UserRepository userRepository, MeterRegistry meterRegistry){
         this.userRepository =userRepository;
+        this.loadUserTimer = meterRegistry.timer("kittfinder.auth.load_user");
     }
+    // Credentials and roles are always read from the primary (not read-only), never from a lagging replica
+    @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() ->new UsernameNotFoundException("User not found with email: "+email));
-        GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.getRole().name());
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                Collections.singleton(authority)
-        );
+        Timer.Sample sample = Timer.start();
+        try {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() ->new UsernameNotFoundException("User not found with email: "+email));
+            return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword(), user.getRole());
+        } finally {
+            sample.stop(loadUserTimer);
+        }
+    }
+
+    // Token authentication never checks the password, so the hash is not kept in the principal
+    @Transactional
+    public AuthenticatedUser loadUserById(Long id) {
+        return userRepository.findById(id)
+                .map(user -> new AuthenticatedUser(user.getId(), user.getEmail(), "", user.getRole()))
+                .orElse(null);
+    }
+
+    // Called by DaoAuthenticationProvider after a successful login when the stored hash is weaker
+    // than the configured BCrypt strength
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        return new AuthenticatedUser(user.getId(), user.getEmail(), newPassword, user.getRole());
     }
 }
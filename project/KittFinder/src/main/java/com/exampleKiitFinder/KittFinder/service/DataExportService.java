@@ -0,0 +1,202 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.modell.Item;
+import com.exampleKiitFinder.KittFinder.modell.User;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Writes whole tables to an admin export as NDJSON or CSV without holding them in memory.
+// Rows are streamed inside one read-only transaction and written as they arrive; the persistence context
+// is cleared every CLEAR_EVERY rows so loaded entities do not pile up.
+@Service
+public class DataExportService {
+    private static final int CLEAR_EVERY = 500;
+
+    private static final String ALL_ITEMS =
+            "select i from Item i left join fetch i.postedBy left join fetch i.reportedBy order by i.id";
+    private static final String ALL_USERS = "select u from User u order by u.id";
+
+    private static final List<String> ITEM_COLUMNS = List.of("id", "title", "description", "location", "locationCode",
+            "latitude", "longitude", "category", "status", "approved", "reward", "imageUrl", "reportedAt", "createdAt",
+            "updatedAt", "postedById", "postedByName", "reportedById");
+
+    // No password hashes
+    private static final List<String> USER_COLUMNS = List.of("id", "name", "email", "role", "createdAt");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+    // Set only on these two queries: Integer.MIN_VALUE makes MySQL Connector/J stream rows one at a time
+    // instead of reading the whole result into memory, without turning on cursor fetch for the whole pool
+    private final int fetchSize;
+
+    public DataExportService(PlatformTransactionManager transactionManager,
+                             @Value("${kittfinder.export.fetch-size}") int fetchSize) {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    // Returns the number of rows written
+    public long exportItems(OutputStream out, DataFormat format) {
+        return readOnlyTransaction.execute(status -> {
+            try (Stream<Item> items = stream(ALL_ITEMS, Item.class)) {
+                return write(items, ITEM_COLUMNS, DataExportService::itemRow, out, format);
+            }
+        });
+    }
+
+    public long exportUsers(OutputStream out, DataFormat format) {
+        return readOnlyTransaction.execute(status -> {
+            try (Stream<User> users = stream(ALL_USERS, User.class)) {
+                return write(users, USER_COLUMNS, DataExportService::userRow, out, format);
+            }
+        });
+    }
+
+    // Forward-only; must be consumed inside the transaction and closed
+    private <T> Stream<T> stream(String query, Class<T> type) {
+        return entityManager.createQuery(query, type)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private static List<Object> itemRow(Item item) {
+        User postedBy = item.getPostedBy();
+        User reportedBy = item.getReportedBy();
+        return Arrays.asList(item.getId(), item.getTitle(), item.getDescription(), item.getLocation(),
+                item.getLocationCode(), item.getLatitude(), item.getLongitude(), item.getCategory(), item.getStatus(),
+                item.isApproved(), item.getReward(), item.getImageUrl(), item.getReportedAt(), item.getCreatedAt(),
+                item.getUpdatedAt(), postedBy == null ? null : postedBy.getId(),
+                postedBy == null ? null : postedBy.getName(), reportedBy == null ? null : reportedBy.getId());
+    }
+
+    private static List<Object> userRow(User user) {
+        return Arrays.asList(user.getId(), user.getName(), user.getEmail(), user.getRole(), user.getCreatedAt());
+    }
+
+    private <T> long write(Stream<T> rows, List<String> columns, Function<T, List<Object>> toRow,
+                           OutputStream out, DataFormat format) {
+        try (RowWriter writer = format == DataFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out)) {
+            writer.start(columns);
+            long written = 0;
+            for (T row : (Iterable<T>) rows::iterator) {
+                writer.write(columns, toRow.apply(row));
+                if (++written % CLEAR_EVERY == 0) {
+                    entityManager.clear();
+                }
+            }
+            return written;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Closing flushes but leaves the response stream open for the container
+    private interface RowWriter extends AutoCloseable {
+        void start(List<String> columns) throws IOException;
+
+        void write(List<String> columns, List<Object> values) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void start(List<String> columns) {
+        }
+
+        @Override
+        public void write(List<String> columns, List<Object> values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                generator.writeObjectField(columns.get(i), values.get(i));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    // RFC 4180: header row, CRLF line ends, fields quoted when they contain a comma, quote or line break
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) {
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void start(List<String> columns) throws IOException {
+            writeLine(columns);
+        }
+
+        @Override
+        public void write(List<String> columns, List<Object> values) throws IOException {
+            writeLine(values);
+        }
+
+        private void writeLine(List<?> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = values.get(i);
+                if (value != null) {
+                    writer.write(escape(value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+// Row formats of the admin exports and imports
+public enum DataFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    DataFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static DataFormat parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported format: " + value + " (use ndjson or csv)");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+// Image types accepted for upload, detected from the leading bytes rather than the client's Content-Type
+public enum ImageFormat {
+    JPEG("jpg", "image/jpeg"),
+    PNG("png", "image/png"),
+    GIF("gif", "image/gif"),
+    WEBP("webp", "image/webp");
+
+    private static final int HEADER_BYTES = 12;
+
+    public final String extension;
+    public final String contentType;
+
+    ImageFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public static ImageFormat fromKey(String key) {
+        String extension = key.substring(key.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        for (ImageFormat format : values()) {
+            if (format.extension.equals(extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    // Peeks at the header of a mark-supporting stream and resets it
+    static ImageFormat sniff(InputStream in) throws IOException {
+        in.mark(HEADER_BYTES);
+        byte[] header = in.readNBytes(HEADER_BYTES);
+        in.reset();
+
+        if (startsWith(header, 0xFF, 0xD8, 0xFF)) {
+            return JPEG;
+        }
+        if (startsWith(header, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return PNG;
+        }
+        if (startsWith(header, 'G', 'I', 'F', '8')) {
+            return GIF;
+        }
+        if (startsWith(header, 'R', 'I', 'F', 'F') && header.length >= HEADER_BYTES
+                && Arrays.equals(Arrays.copyOfRange(header, 8, 12), new byte[]{'W', 'E', 'B', 'P'})) {
+            return WEBP;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] header, int... prefix) {
+        if (header.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((header[i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+// Content-addressed storage for item images. Keys are "<sha256>.<ext>", so the same bytes are stored once
+// and a stored object never changes. LocalImageStore keeps them on disk; an object store can replace it.
+public interface ImageStore {
+
+    // created is false when the same bytes were already stored (possibly for another item)
+    record StoredImage(String key, String contentType, long size, boolean created) {
+    }
+
+    // Streams the upload to storage without holding it in memory
+    StoredImage store(InputStream content) throws IOException;
+
+    // Variants (thumbnails, resized copies) are stored next to the original under the same key
+    void storeVariant(String key, String variant, InputStream content) throws IOException;
+
+    // Removes an original and its variants; only for objects nothing refers to
+    void delete(String key) throws IOException;
+
+    Optional<Resource> load(String key);
+
+    Optional<Resource> loadVariant(String key, String variant);
+}
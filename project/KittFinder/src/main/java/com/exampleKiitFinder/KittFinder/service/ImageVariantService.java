@@ -0,0 +1,127 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Generates resized copies of uploaded images off the request thread.
+// The executor is bounded: when it is saturated new work is dropped and clients get the original instead.
+@Component
+public class ImageVariantService {
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+    // variant name -> longest edge in pixels
+    public static final Map<String, Integer> VARIANTS = Map.of("thumb", 200, "medium", 800);
+    // Refuse to decode anything larger, whatever its file size (decompression bombs)
+    private static final long MAX_PIXELS = 40_000_000L;
+    private static final int WORKERS = 2;
+    private static final int QUEUE_CAPACITY = 100;
+
+    @Autowired
+    private ImageStore imageStore;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            WORKERS, WORKERS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "image-variants");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+    public void generateAsync(String key) {
+        try {
+            executor.execute(() -> generate(key));
+        } catch (RejectedExecutionException e) {
+            log.warn("Image variant queue is full, skipping variants for {}", key);
+        }
+    }
+
+    void generate(String key) {
+        ImageFormat format = ImageFormat.fromKey(key);
+        Optional<Resource> original = imageStore.load(key);
+        if (format == null || format == ImageFormat.WEBP || original.isEmpty()) {
+            // ImageIO has no WebP codec; those are served as uploaded
+            return;
+        }
+
+        try {
+            BufferedImage source = read(original.get());
+            if (source == null) {
+                return;
+            }
+            for (Map.Entry<String, Integer> variant : VARIANTS.entrySet()) {
+                BufferedImage resized = resize(source, variant.getValue(), format == ImageFormat.JPEG);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ImageIO.write(resized, format == ImageFormat.JPEG ? "jpeg" : format.extension, out);
+                imageStore.storeVariant(key, variant.getKey(), new ByteArrayInputStream(out.toByteArray()));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not generate variants for {}", key, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static BufferedImage read(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream(); ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int maxEdge, boolean opaque) {
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height,
+                opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,217 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.Repo.ItemRepository;
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// One compressed bitmap of item ids per status value, per category value and for approved items.
+// Filters on any combination of those fields become bitmap AND/OR; ids are walked newest (highest) first.
+@Component
+public class ItemBitmapIndex implements ItemView {
+    private static final Logger log = LoggerFactory.getLogger(ItemBitmapIndex.class);
+
+    // Values within a field are OR-ed, fields are AND-ed; null or empty means "any"
+    public record Query(Collection<String> statuses, Collection<String> categories, Boolean approved) {
+    }
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap approved = new RoaringBitmap();
+    // lower-cased value -> ids
+    private final Map<String, RoaringBitmap> byStatus = new HashMap<>();
+    private final Map<String, RoaringBitmap> byCategory = new HashMap<>();
+    // False until built, and for good once an id no longer fits the 32-bit bitmaps; callers then use SQL
+    private volatile boolean ready;
+    private final RebuildLog rebuildLog = new RebuildLog();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        beginRebuild();
+        rebuild(itemRepository.findAllResponses());
+    }
+
+    @Override
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildLog.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(List<ItemResponse> items) {
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            approved.clear();
+            byStatus.clear();
+            byCategory.clear();
+            boolean indexed = true;
+            for (ItemResponse item : items) {
+                indexed &= index(item);
+            }
+            for (ItemChangedEvent event : rebuildLog.finish()) {
+                indexed &= apply(event);
+            }
+            all.runOptimize();
+            approved.runOptimize();
+            byStatus.values().forEach(RoaringBitmap::runOptimize);
+            byCategory.values().forEach(RoaringBitmap::runOptimize);
+            ready = indexed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            rebuildLog.record(event);
+            if (!apply(event)) {
+                ready = false;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // False when the item could not be indexed
+    private boolean apply(ItemChangedEvent event) {
+        remove(event.getItemId());
+        return event.getType() == ItemChangedEvent.Type.DELETED || index(event.getItem());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long count(Query query) {
+        lock.readLock().lock();
+        try {
+            return evaluate(query).getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Up to limit matching ids below beforeId (or from the newest when null), highest first
+    public List<Long> idsBefore(Query query, Long beforeId, int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = evaluate(query);
+            if (matches.isEmpty() || (beforeId != null && beforeId <= 0)) {
+                return ids;
+            }
+            long next = beforeId == null || beforeId > Integer.MAX_VALUE
+                    ? matches.last()
+                    : matches.previousValue((int) (beforeId - 1));
+            while (next >= 0 && ids.size() < limit) {
+                ids.add(next);
+                next = next == 0 ? -1 : matches.previousValue((int) (next - 1));
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // May return one of the index's own bitmaps; callers only read the result under the read lock
+    private RoaringBitmap evaluate(Query query) {
+        List<RoaringBitmap> required = new ArrayList<>(3);
+        if (query.statuses() != null && !query.statuses().isEmpty()) {
+            required.add(union(byStatus, query.statuses()));
+        }
+        if (query.categories() != null && !query.categories().isEmpty()) {
+            required.add(union(byCategory, query.categories()));
+        }
+        if (Boolean.TRUE.equals(query.approved())) {
+            required.add(approved);
+        }
+
+        RoaringBitmap result;
+        if (required.isEmpty()) {
+            result = all;
+        } else if (required.size() == 1) {
+            result = required.get(0);
+        } else {
+            result = FastAggregation.and(required.iterator());
+        }
+        if (Boolean.FALSE.equals(query.approved())) {
+            result = RoaringBitmap.andNot(result, approved);
+        }
+        return result;
+    }
+
+    private static RoaringBitmap union(Map<String, RoaringBitmap> field, Collection<String> values) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>(values.size());
+        for (String value : values) {
+            RoaringBitmap bitmap = field.get(key(value));
+            if (bitmap != null) {
+                bitmaps.add(bitmap);
+            }
+        }
+        if (bitmaps.size() == 1) {
+            return bitmaps.get(0);
+        }
+        return FastAggregation.or(bitmaps.iterator());
+    }
+
+    // Returns false when the id cannot be indexed
+    boolean index(ItemResponse item) {
+        if (item.getId() == null || item.getId() < 0 || item.getId() > Integer.MAX_VALUE) {
+            log.warn("Item id {} does not fit the bitmap index; filters fall back to SQL", item.getId());
+            return false;
+        }
+        int id = item.getId().intValue();
+        all.add(id);
+        if (item.isApproved()) {
+            approved.add(id);
+        }
+        if (item.getStatus() != null) {
+            byStatus.computeIfAbsent(key(item.getStatus()), k -> new RoaringBitmap()).add(id);
+        }
+        if (item.getCategory() != null) {
+            byCategory.computeIfAbsent(key(item.getCategory()), k -> new RoaringBitmap()).add(id);
+        }
+        return true;
+    }
+
+    // A field has only a handful of values, so clearing the id from each of them is cheap
+    private void remove(Long itemId) {
+        if (itemId == null || itemId < 0 || itemId > Integer.MAX_VALUE) {
+            return;
+        }
+        int id = itemId.intValue();
+        all.remove(id);
+        approved.remove(id);
+        byStatus.values().forEach(bitmap -> bitmap.remove(id));
+        byCategory.values().forEach(bitmap -> bitmap.remove(id));
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,41 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+
+// Published by ItemServiceImpl after every item write. In-memory views (search index,
+// feed snapshot, ...) consume it with @TransactionalEventListener so they only see committed data.
+public class ItemChangedEvent {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        APPROVED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long itemId;
+    private final ItemResponse item;
+
+    public ItemChangedEvent(Type type, Long itemId, ItemResponse item) {
+        this.type = type;
+        this.itemId = itemId;
+        this.item = item;
+    }
+
+    public static ItemChangedEvent deleted(Long itemId) {
+        return new ItemChangedEvent(Type.DELETED, itemId, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    // Current state of the item; null for DELETED
+    public ItemResponse getItem() {
+        return item;
+    }
+}
@@ -0,0 +1,49 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque keyset position in the (createdAt desc, id desc) item ordering. Rows without a createdAt sort
+// after all dated rows (MySQL orders NULL lowest), and a position among them has a null createdAt.
+final class ItemCursor {
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    ItemCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    String encode() {
+        String raw = (createdAt != null ? createdAt.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // A cursor is client input: anything malformed is an IllegalArgumentException (400), not a server error
+    static ItemCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            String createdAt = raw.substring(0, separator);
+            return new ItemCursor(
+                    createdAt.isEmpty() ? null : LocalDateTime.parse(createdAt),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Fans committed ItemChangedEvents out to SSE subscribers.
+// An idle subscriber is just an open async request plus an empty queue; no thread and no query.
+// Recent events are kept in a ring so a reconnecting client can resume from Last-Event-ID.
+// Event ids are "<boot epoch>-<sequence>", so an id from before a restart is recognised and answered with a reset.
+@Component
+public class ItemEventStream {
+    private static final long EMITTER_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+    private static final long HEARTBEAT_SECONDS = 25;
+    private static final int REPLAY_CAPACITY = 1024;
+    // A subscriber that falls this far behind is disconnected and has to resume from its last event id
+    private static final int SUBSCRIBER_BUFFER = 256;
+    private static final int SENDER_THREADS = 2;
+    // A transaction that changes more items than this (bulk moderation) is announced as one reset event,
+    // so it can never fill a subscriber's buffer on its own
+    private static final int MAX_EVENTS_PER_TRANSACTION = 64;
+
+    static final String RESET_EVENT = "reset";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Guards sequence and replay so a new subscriber sees every event exactly once
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final Queue<StreamEvent> replay = new ArrayDeque<>(REPLAY_CAPACITY);
+    private long sequence;
+    private final String epoch = Long.toString(System.currentTimeMillis());
+    private final AfterCommitBatcher<ItemChangedEvent> changes = new AfterCommitBatcher<>(this::publish);
+
+    private final ExecutorService sender = Executors.newFixedThreadPool(SENDER_THREADS, daemon("item-stream-sender"));
+    private final ScheduledExecutorService heartbeat =
+            Executors.newSingleThreadScheduledExecutor(daemon("item-stream-heartbeat"));
+
+    public ItemEventStream() {
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private record StreamEvent(long id, String name, String data) {
+    }
+
+    // An event before it is given its sequence number
+    private record Message(String name, String data) {
+    }
+
+    private static final Message RESET = new Message(RESET_EVENT, "{}");
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscriber.close());
+        emitter.onError(error -> subscriber.close());
+
+        publishLock.lock();
+        try {
+            if (lastEventId != null) {
+                long lastSequence = sequenceOf(lastEventId);
+                StreamEvent oldest = replay.peek();
+                if (lastSequence < 0 || lastSequence > sequence || (oldest != null && oldest.id() > lastSequence + 1)) {
+                    // The id is from before a restart or has left the replay ring; the client has to reload its list
+                    subscriber.offer(new StreamEvent(sequence, RESET_EVENT, "{}"));
+                } else {
+                    for (StreamEvent event : replay) {
+                        if (event.id() > lastSequence) {
+                            subscriber.offer(event);
+                        }
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        } finally {
+            publishLock.unlock();
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // Plain listener: the batcher delivers a transaction's changes together after it commits
+    @EventListener
+    public void onItemChanged(ItemChangedEvent change) {
+        changes.add(change);
+    }
+
+    // Tells every subscriber to reload its list, for changes too large to send item by item (bulk import)
+    public void reset() {
+        broadcast(List.of(RESET));
+    }
+
+    private void publish(List<ItemChangedEvent> transactionChanges) {
+        if (transactionChanges.size() > MAX_EVENTS_PER_TRANSACTION) {
+            reset();
+            return;
+        }
+        List<Message> messages = new ArrayList<>(transactionChanges.size());
+        for (ItemChangedEvent change : transactionChanges) {
+            try {
+                messages.add(new Message(change.getType().name().toLowerCase(Locale.ROOT), objectMapper.writeValueAsString(change)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize event for item " + change.getItemId(), e);
+            }
+        }
+        broadcast(messages);
+    }
+
+    private void broadcast(List<Message> messages) {
+        publishLock.lock();
+        try {
+            for (Message message : messages) {
+                StreamEvent event = new StreamEvent(++sequence, message.name(), message.data());
+                if (replay.size() == REPLAY_CAPACITY) {
+                    replay.poll();
+                }
+                replay.add(event);
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.offer(event);
+                }
+            }
+        } finally {
+            publishLock.unlock();
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            subscriber.schedule();
+        }
+    }
+
+    // -1 for an id from another boot or one that is not ours
+    private long sequenceOf(String eventId) {
+        int dash = eventId.indexOf('-');
+        if (dash < 0 || !eventId.substring(0, dash).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    private void sendHeartbeats() {
+        for (Iterator<Subscriber> it = subscribers.iterator(); it.hasNext(); ) {
+            Subscriber subscriber = it.next();
+            if (subscriber.buffer.isEmpty()) {
+                try {
+                    subscriber.send(SseEmitter.event().comment("keep-alive"));
+                } catch (IOException | IllegalStateException e) {
+                    it.remove();
+                    subscriber.emitter.completeWithError(e);
+                }
+            }
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> buffer = new ArrayBlockingQueue<>(SUBSCRIBER_BUFFER);
+        // At most one drain task per subscriber is queued or running
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final ReentrantLock sendLock = new ReentrantLock();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(StreamEvent event) {
+            if (!closed && !buffer.offer(event)) {
+                // Slow consumer: drop it rather than grow without bound
+                close();
+            }
+        }
+
+        void schedule() {
+            if (!closed && !buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+            emitter.complete();
+        }
+
+        void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendLock.lock();
+            try {
+                emitter.send(event);
+            } finally {
+                sendLock.unlock();
+            }
+        }
+
+        private void drain() {
+            try {
+                StreamEvent event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    send(SseEmitter.event()
+                            .id(epoch + "-" + event.id())
+                            .name(event.name())
+                            .data(event.data(), MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                closed = true;
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An event may have arrived after the last poll but before the flag was cleared
+            schedule();
+        }
+    }
+}
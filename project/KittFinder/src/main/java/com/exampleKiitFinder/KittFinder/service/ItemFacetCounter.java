@@ -0,0 +1,178 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.Repo.ItemRepository;
+import com.exampleKiitFinder.KittFinder.dto.ItemFacetCount;
+import com.exampleKiitFinder.KittFinder.dto.ItemFacetsResponse;
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Item counts per (approved, status, category, campus place), kept current from ItemChangedEvent.
+// Locations are counted by location code, with every item outside a known place under "other": keyed on the
+// free text, each spelling would be a combination of its own. The number of distinct combinations is small,
+// so a facet request sums a few hundred counters instead of reading the items table.
+@Component
+public class ItemFacetCounter implements ItemView {
+    public static final String SOURCE_COUNTERS = "counters";
+    public static final String SOURCE_DATABASE = "database";
+    public static final String OTHER_LOCATION = "other";
+
+    private record FacetKey(boolean approved, String status, String category, String location) {
+        static FacetKey of(boolean approved, String status, String category, String locationCode) {
+            return new FacetKey(approved, status, category, locationCode != null ? locationCode : OTHER_LOCATION);
+        }
+
+        static FacetKey of(ItemResponse item) {
+            return of(item.isApproved(), item.getStatus(), item.getCategory(), item.getLocationCode());
+        }
+    }
+
+    // Null filter values match everything; strings compare case-insensitively like the MySQL collation.
+    // location is a location code or OTHER_LOCATION
+    public record Filter(Boolean approved, String status, String category, String location) {
+    }
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<FacetKey, Long> counts = new HashMap<>();
+    // item id -> the combination it is counted under, needed to move it on update and drop it on delete
+    private final Map<Long, FacetKey> keys = new HashMap<>();
+    private volatile boolean ready;
+    private final RebuildLog rebuildLog = new RebuildLog();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        beginRebuild();
+        rebuild(itemRepository.findAllResponses());
+    }
+
+    @Override
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildLog.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(List<ItemResponse> items) {
+        lock.writeLock().lock();
+        try {
+            counts.clear();
+            keys.clear();
+            for (ItemResponse item : items) {
+                add(item);
+            }
+            rebuildLog.finish().forEach(this::apply);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            rebuildLog.record(event);
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(ItemChangedEvent event) {
+        removeInternal(event.getItemId());
+        if (event.getType() != ItemChangedEvent.Type.DELETED) {
+            add(event.getItem());
+        }
+    }
+
+    // Null until the first rebuild has finished
+    public ItemFacetsResponse facets(Filter filter) {
+        if (!ready) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            return summarize(counts, filter, SOURCE_COUNTERS);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Same summary computed from a GROUP BY over the table, for checking the counters
+    public ItemFacetsResponse facetsFromDatabase(Filter filter) {
+        Map<FacetKey, Long> grouped = new HashMap<>();
+        for (ItemFacetCount row : itemRepository.countFacets()) {
+            grouped.merge(FacetKey.of(row.getApproved(), row.getStatus(), row.getCategory(), row.getLocationCode()),
+                    row.getTotal(), Long::sum);
+        }
+        return summarize(grouped, filter, SOURCE_DATABASE);
+    }
+
+    private static ItemFacetsResponse summarize(Map<FacetKey, Long> cells, Filter filter, String source) {
+        long total = 0;
+        Map<String, Long> approved = new TreeMap<>();
+        Map<String, Long> status = new TreeMap<>();
+        Map<String, Long> category = new TreeMap<>();
+        Map<String, Long> location = new TreeMap<>();
+
+        for (Map.Entry<FacetKey, Long> cell : cells.entrySet()) {
+            FacetKey key = cell.getKey();
+            long count = cell.getValue();
+            boolean approvedMatches = filter.approved() == null || filter.approved() == key.approved();
+            boolean statusMatches = matches(filter.status(), key.status());
+            boolean categoryMatches = matches(filter.category(), key.category());
+            boolean locationMatches = matches(filter.location(), key.location());
+
+            if (approvedMatches && statusMatches && categoryMatches && locationMatches) {
+                total += count;
+            }
+            // Values that are null are only part of the total
+            if (statusMatches && categoryMatches && locationMatches) {
+                approved.merge(Boolean.toString(key.approved()), count, Long::sum);
+            }
+            if (approvedMatches && categoryMatches && locationMatches && key.status() != null) {
+                status.merge(key.status(), count, Long::sum);
+            }
+            if (approvedMatches && statusMatches && locationMatches && key.category() != null) {
+                category.merge(key.category(), count, Long::sum);
+            }
+            if (approvedMatches && statusMatches && categoryMatches && key.location() != null) {
+                location.merge(key.location(), count, Long::sum);
+            }
+        }
+        return new ItemFacetsResponse(total, approved, status, category, location, source);
+    }
+
+    private static boolean matches(String wanted, String value) {
+        return wanted == null || wanted.equalsIgnoreCase(value);
+    }
+
+    private void add(ItemResponse item) {
+        FacetKey key = FacetKey.of(item);
+        keys.put(item.getId(), key);
+        counts.merge(key, 1L, Long::sum);
+    }
+
+    private void removeInternal(Long itemId) {
+        FacetKey key = keys.remove(itemId);
+        if (key != null) {
+            counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.Repo.ItemRepository;
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import com.exampleKiitFinder.KittFinder.dto.NearbyItemResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Uniform lat/lng grid over items that have coordinates.
+// A radius query only visits the cells overlapping the circle's bounding box, then filters by true distance.
+@Component
+public class ItemGeoIndex implements ItemView {
+    // About 110 m north-south; a campus-scale radius touches a few dozen cells
+    static final double CELL_DEGREES = 0.001;
+    public static final double MAX_RADIUS_METERS = 5_000;
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+    private record Point(ItemResponse item, double latitude, double longitude, long cell) {
+    }
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Point> points = new HashMap<>();
+    // cell key -> item ids in that cell
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+    private final RebuildLog rebuildLog = new RebuildLog();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        beginRebuild();
+        rebuild(itemRepository.findAllResponses());
+    }
+
+    @Override
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildLog.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(List<ItemResponse> items) {
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            cells.clear();
+            for (ItemResponse item : items) {
+                add(item);
+            }
+            rebuildLog.finish().forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            rebuildLog.record(event);
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(ItemChangedEvent event) {
+        removeInternal(event.getItemId());
+        if (event.getType() != ItemChangedEvent.Type.DELETED) {
+            add(event.getItem());
+        }
+    }
+
+    // Items within radiusMeters of the point, nearest first
+    public List<NearbyItemResponse> near(double latitude, double longitude, double radiusMeters, int limit) {
+        double latSpan = radiusMeters / METERS_PER_DEGREE;
+        double lngSpan = radiusMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        int minRow = row(latitude - latSpan);
+        int maxRow = row(latitude + latSpan);
+        int minColumn = column(longitude - lngSpan);
+        int maxColumn = column(longitude + lngSpan);
+
+        List<NearbyItemResponse> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int r = minRow; r <= maxRow; r++) {
+                for (int c = minColumn; c <= maxColumn; c++) {
+                    Set<Long> ids = cells.get(key(r, c));
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Long id : ids) {
+                        Point point = points.get(id);
+                        double distance = distanceMeters(latitude, longitude, point.latitude(), point.longitude());
+                        if (distance <= radiusMeters) {
+                            found.add(new NearbyItemResponse(point.item(), Math.round(distance * 10) / 10.0));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        found.sort(Comparator.comparingDouble(NearbyItemResponse::getDistanceMeters));
+        return found.size() > limit ? new ArrayList<>(found.subList(0, limit)) : found;
+    }
+
+    static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void add(ItemResponse item) {
+        if (item == null || item.getLatitude() == null || item.getLongitude() == null) {
+            return;
+        }
+        long cell = key(row(item.getLatitude()), column(item.getLongitude()));
+        points.put(item.getId(), new Point(item, item.getLatitude(), item.getLongitude(), cell));
+        cells.computeIfAbsent(cell, k -> new HashSet<>()).add(item.getId());
+    }
+
+    private void removeInternal(Long itemId) {
+        Point point = points.remove(itemId);
+        if (point == null) {
+            return;
+        }
+        Set<Long> ids = cells.get(point.cell());
+        if (ids != null) {
+            ids.remove(itemId);
+            if (ids.isEmpty()) {
+                cells.remove(point.cell());
+            }
+        }
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return (int) Math.floor(longitude / CELL_DEGREES);
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+}
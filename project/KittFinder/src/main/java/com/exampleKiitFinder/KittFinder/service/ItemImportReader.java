@@ -0,0 +1,199 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Reads import rows one at a time, so an upload of any size is parsed with constant memory.
+// CSV: a header row naming the columns, then RFC 4180 records (quoted fields may contain commas, quotes and line breaks).
+// NDJSON: one JSON object per line; blank lines are skipped.
+// Column names match case-insensitively; the export's column names are accepted, unknown columns are ignored.
+public class ItemImportReader implements Closeable {
+
+    // number is the CSV row (header = 1) or NDJSON line, as shown by an editor or spreadsheet.
+    // A row that could not be parsed has an error and no values.
+    public record Row(long number, Map<String, String> values, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final DataFormat format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    // Physical line the next record starts on
+    private long line = 1;
+    private boolean done;
+
+    public ItemImportReader(InputStream in, DataFormat format, ObjectMapper objectMapper) throws IOException {
+        reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        // Spreadsheet exports often start with a byte order mark
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    // Null at the end of the input
+    public Row next() throws IOException {
+        return format == DataFormat.CSV ? nextCsv() : nextJson();
+    }
+
+    private Row nextJson() throws IOException {
+        while (!done) {
+            String text = reader.readLine();
+            long number = line++;
+            if (text == null) {
+                done = true;
+            } else if (!text.isBlank()) {
+                return parseJson(number, text);
+            }
+        }
+        return null;
+    }
+
+    private Row parseJson(long number, String text) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            return new Row(number, null, "Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return new Row(number, null, "Expected a JSON object");
+        }
+        Map<String, String> values = new HashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getValue().isNull()) {
+                values.put(key(field.getKey()), field.getValue().asText());
+            }
+        }
+        return new Row(number, values, null);
+    }
+
+    private Row nextCsv() throws IOException {
+        if (header == null) {
+            long number = line;
+            List<String> names;
+            try {
+                names = readRecord();
+            } catch (IllegalArgumentException e) {
+                return new Row(number, null, e.getMessage());
+            }
+            if (names == null) {
+                return null;
+            }
+            header = new ArrayList<>(names.size());
+            for (String name : names) {
+                header.add(key(name));
+            }
+            if (!header.contains("title")) {
+                done = true;
+                return new Row(number, null, "Header row must name the columns and include title");
+            }
+        }
+        while (true) {
+            long number = line;
+            List<String> fields;
+            try {
+                fields = readRecord();
+            } catch (IllegalArgumentException e) {
+                return new Row(number, null, e.getMessage());
+            }
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            if (fields.size() != header.size()) {
+                return new Row(number, null, "Expected " + header.size() + " fields but found " + fields.size());
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                if (!fields.get(i).isEmpty()) {
+                    values.put(header.get(i), fields.get(i));
+                }
+            }
+            return new Row(number, values, null);
+        }
+    }
+
+    // One record, which spans several lines when a quoted field contains line breaks; null at the end
+    private List<String> readRecord() throws IOException {
+        if (done) {
+            return null;
+        }
+        int c = reader.read();
+        if (c < 0) {
+            done = true;
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    done = true;
+                    throw new IllegalArgumentException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c < 0) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,422 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.Repo.ItemRepository;
+import com.exampleKiitFinder.KittFinder.dto.ItemMatchResponse;
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Matches open LOST reports against open FOUND reports (and vice versa).
+// Each open item is indexed by its text terms and location tokens; when an item is saved it is scored only
+// against opposite-side items sharing one of those keys, and its top matches are stored on both sides.
+// Category only adds to the score: as a key it would make every lookup a scan of the category, and a pair
+// with nothing but category and date in common is not a match. A stored match is re-checked against the
+// candidate's version when read.
+@Component
+public class ItemMatchIndex implements ItemView {
+    public static final int MAX_MATCHES = 20;
+    // Above what time proximity plus a loosely shared location token can reach on their own; category and
+    // time together can exceed it, which is why a pair must also share a text or location term
+    private static final double MIN_SCORE = 0.25;
+    private static final double TEXT_WEIGHT = 0.45;
+    private static final double CATEGORY_WEIGHT = 0.2;
+    private static final double LOCATION_WEIGHT = 0.2;
+    private static final double TIME_WEIGHT = 0.15;
+    private static final double TIME_DECAY_DAYS = 7.0;
+    private static final double TITLE_WEIGHT = 2.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    // Bounds the work for one save when a very common key is shared by many items
+    private static final int MAX_CANDIDATES = 5_000;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "the", "my", "of", "in", "on", "at", "and", "or", "with", "near", "lost", "found", "item");
+
+    private enum Side {
+        LOST,
+        FOUND;
+
+        Side opposite() {
+            return this == LOST ? FOUND : LOST;
+        }
+
+        static Side of(String status) {
+            if (status == null) {
+                return null;
+            }
+            switch (status.trim().toUpperCase(Locale.ROOT)) {
+                case "LOST":
+                    return LOST;
+                case "FOUND":
+                    return FOUND;
+                default:
+                    // Claimed, returned, ... items are no longer open
+                    return null;
+            }
+        }
+    }
+
+    private static final class Entry {
+        ItemResponse item;
+        Side side;
+        long version;
+        Map<String, Double> terms;
+        String category;
+        String location;
+        Set<String> locationTokens;
+        LocalDateTime createdAt;
+        Set<String> keys;
+    }
+
+    private record Match(long itemId, long version, double score) {
+    }
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> open = new HashMap<>();
+    // side -> index key -> item ids
+    private final Map<Side, Map<String, Set<Long>>> postings = Map.of(Side.LOST, new HashMap<>(), Side.FOUND, new HashMap<>());
+    // text term -> number of open items containing it
+    private final Map<String, Integer> documentFrequency = new HashMap<>();
+    // item id -> best matches, highest score first
+    private final Map<Long, List<Match>> matches = new HashMap<>();
+    private long nextVersion;
+    private final RebuildLog rebuildLog = new RebuildLog();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        beginRebuild();
+        rebuild(itemRepository.findAllResponses());
+    }
+
+    @Override
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildLog.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(List<ItemResponse> items) {
+        lock.writeLock().lock();
+        try {
+            open.clear();
+            postings.values().forEach(Map::clear);
+            documentFrequency.clear();
+            matches.clear();
+            for (ItemResponse item : items) {
+                add(item);
+            }
+            // Every item is scored against the same term statistics, so one norm cache serves the whole pass
+            Map<Long, Double> norms = new HashMap<>();
+            for (Entry entry : open.values()) {
+                matches.put(entry.item.getId(), score(entry, norms));
+            }
+            rebuildLog.finish().forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            rebuildLog.record(event);
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(ItemChangedEvent event) {
+        if (event.getType() == ItemChangedEvent.Type.DELETED) {
+            remove(event.getItemId());
+        } else {
+            upsert(event.getItem());
+        }
+    }
+
+    public void upsert(ItemResponse item) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(item.getId());
+            Entry entry = add(item);
+            if (entry == null) {
+                return;
+            }
+            List<Match> found = score(entry, new HashMap<>());
+            matches.put(item.getId(), found);
+            for (Match match : found) {
+                offer(match.itemId(), new Match(item.getId(), entry.version, match.score()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Empty when the item is not an open LOST/FOUND report
+    public List<ItemMatchResponse> matchesFor(Long itemId, int limit) {
+        lock.readLock().lock();
+        try {
+            if (!open.containsKey(itemId)) {
+                return Collections.emptyList();
+            }
+            List<Match> stored = matches.getOrDefault(itemId, Collections.emptyList());
+            if (allCurrent(stored)) {
+                return toResponses(stored, limit);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // A candidate changed or closed since the list was built; rescore this item
+        lock.writeLock().lock();
+        try {
+            Entry entry = open.get(itemId);
+            if (entry == null) {
+                return Collections.emptyList();
+            }
+            List<Match> rescored = score(entry, new HashMap<>());
+            matches.put(itemId, rescored);
+            return toResponses(rescored, limit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static String normalizeLocation(String location) {
+        if (location == null) {
+            return "";
+        }
+        return String.join(" ", ItemSearchIndex.tokenize(location));
+    }
+
+    private Entry add(ItemResponse item) {
+        Side side = Side.of(item.getStatus());
+        if (side == null) {
+            return null;
+        }
+        Entry entry = new Entry();
+        entry.item = item;
+        entry.side = side;
+        entry.version = ++nextVersion;
+        entry.terms = new HashMap<>();
+        accumulate(entry.terms, item.getName(), TITLE_WEIGHT);
+        accumulate(entry.terms, item.getDescription(), DESCRIPTION_WEIGHT);
+        entry.category = item.getCategory() != null ? item.getCategory().trim().toLowerCase(Locale.ROOT) : "";
+        entry.location = normalizeLocation(item.getLocation());
+        entry.locationTokens = new HashSet<>(ItemSearchIndex.tokenize(entry.location));
+        entry.createdAt = item.getCreateAt() != null ? LocalDateTime.parse(item.getCreateAt()) : null;
+
+        entry.keys = new HashSet<>();
+        for (String term : entry.terms.keySet()) {
+            entry.keys.add("t:" + term);
+            documentFrequency.merge(term, 1, Integer::sum);
+        }
+        for (String token : entry.locationTokens) {
+            entry.keys.add("l:" + token);
+        }
+
+        Map<String, Set<Long>> sidePostings = postings.get(side);
+        for (String key : entry.keys) {
+            sidePostings.computeIfAbsent(key, k -> new HashSet<>()).add(item.getId());
+        }
+        open.put(item.getId(), entry);
+        return entry;
+    }
+
+    private void removeInternal(Long itemId) {
+        Entry entry = open.remove(itemId);
+        matches.remove(itemId);
+        if (entry == null) {
+            return;
+        }
+        Map<String, Set<Long>> sidePostings = postings.get(entry.side);
+        for (String key : entry.keys) {
+            Set<Long> ids = sidePostings.get(key);
+            if (ids != null) {
+                ids.remove(itemId);
+                if (ids.isEmpty()) {
+                    sidePostings.remove(key);
+                }
+            }
+        }
+        for (String term : entry.terms.keySet()) {
+            documentFrequency.computeIfPresent(term, (t, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    // norms caches norm(entry) by item id; valid only while documentFrequency and open are unchanged
+    private List<Match> score(Entry entry, Map<Long, Double> norms) {
+        Map<String, Set<Long>> candidates = postings.get(entry.side.opposite());
+        Set<Long> seen = new HashSet<>();
+        List<Match> scored = new ArrayList<>();
+        for (String key : entry.keys) {
+            Set<Long> ids = candidates.get(key);
+            if (ids == null) {
+                continue;
+            }
+            for (Long id : ids) {
+                if (seen.size() >= MAX_CANDIDATES) {
+                    break;
+                }
+                if (seen.add(id)) {
+                    Entry candidate = open.get(id);
+                    double score = score(entry, candidate, norms);
+                    if (score >= MIN_SCORE) {
+                        scored.add(new Match(id, candidate.version, score));
+                    }
+                }
+            }
+        }
+        scored.sort((a, b) -> Double.compare(b.score(), a.score()));
+        return scored.size() > MAX_MATCHES ? new ArrayList<>(scored.subList(0, MAX_MATCHES)) : scored;
+    }
+
+    // Zero unless the pair shares a text or location term
+    private double score(Entry a, Entry b, Map<Long, Double> norms) {
+        double text = textSimilarity(a, b, norms);
+        double location = locationSimilarity(a, b);
+        if (text == 0 && location == 0) {
+            return 0;
+        }
+        double category = !a.category.isEmpty() && a.category.equals(b.category) ? 1.0 : 0.0;
+        return TEXT_WEIGHT * text
+                + CATEGORY_WEIGHT * category
+                + LOCATION_WEIGHT * location
+                + TIME_WEIGHT * timeProximity(a, b);
+    }
+
+    // Cosine similarity of idf-weighted title/description term vectors
+    private double textSimilarity(Entry a, Entry b, Map<Long, Double> norms) {
+        double dot = 0;
+        for (Map.Entry<String, Double> term : a.terms.entrySet()) {
+            Double other = b.terms.get(term.getKey());
+            if (other != null) {
+                double idf = idf(term.getKey());
+                dot += term.getValue() * other * idf * idf;
+            }
+        }
+        if (dot == 0) {
+            return 0;
+        }
+        return dot / (norm(a, norms) * norm(b, norms));
+    }
+
+    private double norm(Entry entry, Map<Long, Double> norms) {
+        Double cached = norms.get(entry.item.getId());
+        if (cached != null) {
+            return cached;
+        }
+        double sum = 0;
+        for (Map.Entry<String, Double> term : entry.terms.entrySet()) {
+            double weighted = term.getValue() * idf(term.getKey());
+            sum += weighted * weighted;
+        }
+        double norm = Math.sqrt(sum);
+        norms.put(entry.item.getId(), norm);
+        return norm;
+    }
+
+    private double idf(String term) {
+        return Math.log(1.0 + (double) Math.max(open.size(), 1) / documentFrequency.getOrDefault(term, 1));
+    }
+
+    private static double locationSimilarity(Entry a, Entry b) {
+        if (a.location.isEmpty() || b.location.isEmpty()) {
+            return 0;
+        }
+        if (a.location.equals(b.location)) {
+            return 1;
+        }
+        // Jaccard similarity, counted without building the intersection and union sets
+        int shared = 0;
+        for (String token : a.locationTokens) {
+            if (b.locationTokens.contains(token)) {
+                shared++;
+            }
+        }
+        int union = a.locationTokens.size() + b.locationTokens.size() - shared;
+        return union == 0 ? 0 : (double) shared / union;
+    }
+
+    private static double timeProximity(Entry a, Entry b) {
+        if (a.createdAt == null || b.createdAt == null) {
+            return 0;
+        }
+        double days = Math.abs(Duration.between(a.createdAt, b.createdAt).toMinutes()) / (60.0 * 24.0);
+        return Math.exp(-days / TIME_DECAY_DAYS);
+    }
+
+    private void offer(Long itemId, Match match) {
+        List<Match> list = matches.computeIfAbsent(itemId, id -> new ArrayList<>());
+        list.removeIf(existing -> existing.itemId() == match.itemId());
+        int position = 0;
+        while (position < list.size() && list.get(position).score() >= match.score()) {
+            position++;
+        }
+        if (position < MAX_MATCHES) {
+            list.add(position, match);
+            if (list.size() > MAX_MATCHES) {
+                list.remove(list.size() - 1);
+            }
+        }
+    }
+
+    private boolean allCurrent(List<Match> stored) {
+        for (Match match : stored) {
+            Entry candidate = open.get(match.itemId());
+            if (candidate == null || candidate.version != match.version()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<ItemMatchResponse> toResponses(List<Match> stored, int limit) {
+        List<ItemMatchResponse> result = new ArrayList<>(Math.min(limit, stored.size()));
+        for (Match match : stored) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(new ItemMatchResponse(open.get(match.itemId()).item, Math.round(match.score() * 1000) / 1000.0));
+        }
+        return result;
+    }
+
+    private static void accumulate(Map<String, Double> terms, String text, double weight) {
+        for (String token : ItemSearchIndex.tokenize(text)) {
+            if (!STOP_WORDS.contains(token)) {
+                terms.merge(token, weight, Double::sum);
+            }
+        }
+    }
+}
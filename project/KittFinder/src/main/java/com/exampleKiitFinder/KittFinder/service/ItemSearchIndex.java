@@ -0,0 +1,234 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.Repo.ItemRepository;
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index over item title, location and description.
+// Kept in sync through ItemChangedEvent and rebuilt from the database at startup.
+@Component
+public class ItemSearchIndex implements ItemView {
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float LOCATION_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    // A query token that only matches as a prefix ("lap" -> "laptop") scores lower than an exact term
+    private static final float PREFIX_MATCH_FACTOR = 0.5f;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (item id -> weighted term frequency)
+    private NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    // item id -> indexed terms, needed to unindex on update and delete
+    private Map<Long, Map<String, Float>> itemTerms = new HashMap<>();
+    private Map<Long, ItemResponse> items = new HashMap<>();
+    private final RebuildLog rebuildLog = new RebuildLog();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        beginRebuild();
+        rebuild(itemRepository.findAllResponses());
+    }
+
+    @Override
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildLog.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(List<ItemResponse> loaded) {
+        NavigableMap<String, Map<Long, Float>> freshPostings = new TreeMap<>();
+        Map<Long, Map<String, Float>> freshItemTerms = new HashMap<>();
+        Map<Long, ItemResponse> freshItems = new HashMap<>();
+
+        for (ItemResponse item : loaded) {
+            addTo(freshPostings, freshItemTerms, freshItems, item);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = freshPostings;
+            itemTerms = freshItemTerms;
+            items = freshItems;
+            rebuildLog.finish().forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            rebuildLog.record(event);
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(ItemChangedEvent event) {
+        if (event.getType() == ItemChangedEvent.Type.DELETED) {
+            remove(event.getItemId());
+        } else {
+            index(event.getItem());
+        }
+    }
+
+    public void index(ItemResponse item) {
+        lock.writeLock().lock();
+        try {
+            removeFrom(postings, itemTerms, items, item.getId());
+            addTo(postings, itemTerms, items, item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            removeFrom(postings, itemTerms, items, itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Every query token must match a term exactly or as a prefix; results are ranked by tf-idf
+    public List<ItemResponse> search(String query, int page, int size) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty() || page < 0 || size <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Float> scores = null;
+            int documentCount = Math.max(items.size(), 1);
+
+            for (String token : queryTokens) {
+                Map<Long, Float> tokenScores = new HashMap<>();
+                int expansions = 0;
+                for (Map.Entry<String, Map<Long, Float>> entry : postings.tailMap(token, true).entrySet()) {
+                    String term = entry.getKey();
+                    if (!term.startsWith(token) || expansions++ >= MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                    Map<Long, Float> termPostings = entry.getValue();
+                    float idf = (float) Math.log(1.0 + (double) documentCount / termPostings.size());
+                    float factor = term.length() == token.length() ? 1.0f : PREFIX_MATCH_FACTOR;
+                    for (Map.Entry<Long, Float> posting : termPostings.entrySet()) {
+                        tokenScores.merge(posting.getKey(), posting.getValue() * idf * factor, Float::sum);
+                    }
+                }
+
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    for (Map.Entry<Long, Float> score : scores.entrySet()) {
+                        score.setValue(score.getValue() + tokenScores.get(score.getKey()));
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            List<Map.Entry<Long, Float>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort((a, b) -> {
+                int byScore = Float.compare(b.getValue(), a.getValue());
+                return byScore != 0 ? byScore : Long.compare(b.getKey(), a.getKey());
+            });
+
+            long from = (long) page * size;
+            if (from >= ranked.size()) {
+                return Collections.emptyList();
+            }
+            int to = (int) Math.min(from + size, ranked.size());
+            List<ItemResponse> result = new ArrayList<>(to - (int) from);
+            for (Map.Entry<Long, Float> entry : ranked.subList((int) from, to)) {
+                result.add(items.get(entry.getKey()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addTo(NavigableMap<String, Map<Long, Float>> postings,
+                              Map<Long, Map<String, Float>> itemTerms,
+                              Map<Long, ItemResponse> items,
+                              ItemResponse item) {
+        Map<String, Float> terms = new HashMap<>();
+        accumulate(terms, item.getName(), TITLE_WEIGHT);
+        accumulate(terms, item.getLocation(), LOCATION_WEIGHT);
+        accumulate(terms, item.getDescription(), DESCRIPTION_WEIGHT);
+
+        for (Map.Entry<String, Float> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(item.getId(), term.getValue());
+        }
+        itemTerms.put(item.getId(), terms);
+        items.put(item.getId(), item);
+    }
+
+    private static void removeFrom(NavigableMap<String, Map<Long, Float>> postings,
+                                   Map<Long, Map<String, Float>> itemTerms,
+                                   Map<Long, ItemResponse> items,
+                                   Long itemId) {
+        Map<String, Float> terms = itemTerms.remove(itemId);
+        items.remove(itemId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Float> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(itemId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void accumulate(Map<String, Float> terms, String text, float weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Float::sum);
+        }
+    }
+}
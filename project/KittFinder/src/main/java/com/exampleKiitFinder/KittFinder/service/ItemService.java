@@ -1,20 +1,47 @@
 package com.exampleKiitFinder.KittFinder.service;
 
+import com.exampleKiitFinder.KittFinder.dto.BulkModerationResult;
+import com.exampleKiitFinder.KittFinder.dto.ItemFacetsResponse;
+import com.exampleKiitFinder.KittFinder.dto.ItemFilter;
+import com.exampleKiitFinder.KittFinder.dto.ItemIdPageResponse;
+import com.exampleKiitFinder.KittFinder.dto.ItemImportResult;
+import com.exampleKiitFinder.KittFinder.dto.ItemListVersion;
+import com.exampleKiitFinder.KittFinder.dto.ItemMatchResponse;
+import com.exampleKiitFinder.KittFinder.dto.ItemPageResponse;
 import com.exampleKiitFinder.KittFinder.dto.ItemRequest;
 import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import com.exampleKiitFinder.KittFinder.dto.NearbyItemResponse;
+import com.exampleKiitFinder.KittFinder.dto.UpdateItemStatusDto;
 import com.exampleKiitFinder.KittFinder.modell.Item;
+import com.exampleKiitFinder.KittFinder.modell.Role;
 import com.exampleKiitFinder.KittFinder.modell.User;
 
+import java.io.InputStream;
 import java.util.List;
 
 public interface ItemService {
     ItemResponse createItem(ItemRequest itemRequest, User postedBy);
     List<ItemResponse> getAllItems();
+    ItemPageResponse getItemsPage(String cursor, int size);
+    ItemIdPageResponse findByAttributes(List<String> statuses, List<String> categories, Boolean approved, Long afterId, int size);
+    long countByAttributes(List<String> statuses, List<String> categories, Boolean approved);
+    ItemPageResponse findItems(ItemFilter filter, String cursor, Integer page, int size, String sort, boolean count);
+    ItemListVersion getListVersion();
     ItemResponse getItemById(Long id);
     void deleteItem(Long id);
+    boolean deleteItem(Long id, Long currentUserId, Role currentUserRole);
     List<ItemResponse> getItemsByUser(User user);
-    ItemResponse updateItem(Long id, ItemRequest itemRequest, User currentUser);
+    List<ItemResponse> getItemsByUserId(Long userId);
+    ItemResponse updateItem(Long id, ItemRequest itemRequest, Long currentUserId, Role currentUserRole);
+    void checkCanUpdateItem(Long id, Long currentUserId, Role currentUserRole);
+    ItemResponse updateItemImage(Long id, String imageUrl, Long currentUserId, Role currentUserRole);
     List<ItemResponse> getItemsByStatus(String status);
     List<ItemResponse> getItemsByCategory(String category);
     List<ItemResponse> searchItemsByLocation(String location);
+    ItemFacetsResponse getFacets(Boolean approved, String status, String category, String location, boolean fromDatabase);
+    List<NearbyItemResponse> findNearby(double latitude, double longitude, double radiusMeters, int limit);
+    List<ItemResponse> searchItems(String query, int page, int size);
+    List<ItemMatchResponse> getMatches(Long id, int limit);
+    List<BulkModerationResult> moderateItems(List<UpdateItemStatusDto> operations);
+    ItemImportResult importItems(InputStream in, DataFormat format, Long postedById);
 }
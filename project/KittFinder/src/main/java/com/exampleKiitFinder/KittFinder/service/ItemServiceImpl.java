@@ -1,30 +1,146 @@
 package com.exampleKiitFinder.KittFinder.service;
 
 import com.exampleKiitFinder.KittFinder.Repo.ItemRepository;
+import com.exampleKiitFinder.KittFinder.Repo.ItemSpecifications;
+import com.exampleKiitFinder.KittFinder.config.CacheConfig;
+import com.exampleKiitFinder.KittFinder.config.ReplicaLagGuard;
+import com.exampleKiitFinder.KittFinder.dto.BulkModerationResult;
+import com.exampleKiitFinder.KittFinder.dto.ItemFacetsResponse;
+import com.exampleKiitFinder.KittFinder.dto.ItemFilter;
+import com.exampleKiitFinder.KittFinder.dto.ItemIdPageResponse;
+import com.exampleKiitFinder.KittFinder.dto.ItemImportError;
+import com.exampleKiitFinder.KittFinder.dto.ItemImportResult;
+import com.exampleKiitFinder.KittFinder.dto.ItemListVersion;
+import com.exampleKiitFinder.KittFinder.dto.ItemMatchResponse;
+import com.exampleKiitFinder.KittFinder.dto.ItemPageResponse;
 import com.exampleKiitFinder.KittFinder.dto.ItemRequest;
 import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import com.exampleKiitFinder.KittFinder.dto.ModerationAction;
+import com.exampleKiitFinder.KittFinder.dto.NearbyItemResponse;
+import com.exampleKiitFinder.KittFinder.dto.UpdateItemStatusDto;
+import com.exampleKiitFinder.KittFinder.modell.CampusLocation;
 import com.exampleKiitFinder.KittFinder.modell.Item;
+import com.exampleKiitFinder.KittFinder.modell.Role;
 import com.exampleKiitFinder.KittFinder.modell.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @Service
 
 public class ItemServiceImpl implements ItemService {
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    // Upper bound on ids per IN (...) list in bulk statements
+    static final int BULK_CHUNK_SIZE = 1000;
+    // Deepest row reachable with page numbers; cursors have no limit
+    static final int MAX_OFFSET = 10_000;
+    static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+    static final List<String> SORTABLE_FIELDS = List.of("createdAt", "updatedAt", "reward", "title", "status", "category");
+    // Failed rows listed in an import result; the count covers all of them
+    static final int MAX_IMPORT_ERRORS = 1000;
+
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private ItemSearchIndex searchIndex;
+
+    @Autowired
+    private ItemMatchIndex matchIndex;
+
+    @Autowired
+    private ItemGeoIndex geoIndex;
+
+    @Autowired
+    private CampusLocationDirectory locationDirectory;
+
+    @Autowired
+    private ItemFacetCounter facetCounter;
+
+    @Autowired
+    private ItemBitmapIndex bitmapIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ApprovedFeedSnapshot approvedFeed;
+
+    @Autowired
+    private ItemEventStream eventStream;
+
+    // Only present when a read replica is configured
+    @Autowired(required = false)
+    private ReplicaLagGuard replicaLagGuard;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Items inserted per transaction and JDBC batch by importItems
+    private int importBatchSize;
+
+    @Value("${kittfinder.import.batch-size:1000}")
+    void setImportBatchSize(int importBatchSize) {
+        if (importBatchSize <= 0) {
+            throw new IllegalArgumentException("kittfinder.import.batch-size must be positive: " + importBatchSize);
+        }
+        this.importBatchSize = importBatchSize;
+    }
+
     public ItemResponse createItem(ItemRequest itemRequest, User postedBy){
         Item item = new Item();
         item.setTitle(itemRequest.getTitle());
 
         item.setDescription(itemRequest.getDescription());
-        item.setLocation(itemRequest.getLocation());
+        applyLocation(item, itemRequest);
         item.setCategory(itemRequest.getCategory());
         item.setStatus(itemRequest.getStatus());
         item.setReward(itemRequest.getReward());
@@ -34,67 +150,407 @@ public class ItemServiceImpl implements ItemService {
         item.setUpdatedAt(LocalDateTime.now());
 
         Item saved = itemRepository.save(item);
-        return mapToResponse(saved);
+        ItemResponse response = mapToResponse(saved);
+        eventPublisher.publishEvent(new ItemChangedEvent(ItemChangedEvent.Type.CREATED, response.getId(), response));
+        evictListings(response.getStatus(), response.getCategory());
+        return response;
 
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemResponse> getAllItems() {
-        return itemRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return itemRepository.findAllResponses();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ItemPageResponse getItemsPage(String cursor, int size) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        // Fetch one extra row to know whether another page exists without a COUNT(*)
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ItemResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = itemRepository.findFirstPage(limit);
+        } else {
+            ItemCursor position = ItemCursor.decode(cursor);
+            rows = position.getCreatedAt() != null
+                    ? itemRepository.findPageAfter(position.getCreatedAt(), position.getId(), limit)
+                    : itemRepository.findUndatedPageAfter(position.getId(), limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ItemResponse> items = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            ItemResponse last = items.get(items.size() - 1);
+            LocalDateTime createdAt = last.getCreateAt() != null ? LocalDateTime.parse(last.getCreateAt()) : null;
+            nextCursor = new ItemCursor(createdAt, last.getId()).encode();
+        }
+
+        return new ItemPageResponse(items, nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ItemPageResponse findItems(ItemFilter filter, String cursor, Integer page, int size, String sort, boolean count) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        Sort order = parseSort(sort);
+        List<Specification<Item>> specs = filterSpecifications(filter);
+        specs.add(ItemSpecifications.fetchUsers());
+
+        // The default newest-first order keeps keyset paging unless a page number or total is asked for
+        if (page == null && !count && order.equals(DEFAULT_SORT)) {
+            if (cursor != null && !cursor.isBlank()) {
+                ItemCursor position = ItemCursor.decode(cursor);
+                specs.add(ItemSpecifications.after(position.getCreatedAt(), position.getId()));
+            }
+            List<Item> rows = itemRepository.findBy(Specification.allOf(specs),
+                    query -> query.sortBy(order).limit(pageSize + 1).all());
+            boolean hasMore = rows.size() > pageSize;
+            List<ItemResponse> items = toResponses(hasMore ? rows.subList(0, pageSize) : rows);
+            String nextCursor = null;
+            if (hasMore) {
+                Item last = rows.get(pageSize - 1);
+                nextCursor = new ItemCursor(last.getCreatedAt(), last.getId()).encode();
+            }
+            return new ItemPageResponse(items, nextCursor, hasMore);
+        }
+
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0 || (long) pageNumber * pageSize > MAX_OFFSET) {
+            throw new IllegalArgumentException("page must be between 0 and " + MAX_OFFSET / pageSize + "; use cursor paging for deeper results");
+        }
+        PageRequest pageable = PageRequest.of(pageNumber, pageSize, order);
+        ItemPageResponse response;
+        if (count) {
+            Page<Item> result = itemRepository.findAll(Specification.allOf(specs), pageable);
+            response = new ItemPageResponse(toResponses(result.getContent()), null, result.hasNext());
+            response.setTotal(result.getTotalElements());
+        } else {
+            // Reads one extra row to answer hasMore, with no COUNT(*)
+            Slice<Item> result = itemRepository.findBy(Specification.allOf(specs), query -> query.slice(pageable));
+            response = new ItemPageResponse(toResponses(result.getContent()), null, result.hasNext());
+        }
+        response.setPage(pageNumber);
+        return response;
+    }
+
+    // Answered from the bitmap index plus the item cache; the SQL path only runs until the index is built
+    @Override
+    @Transactional(readOnly = true)
+    public ItemIdPageResponse findByAttributes(List<String> statuses, List<String> categories, Boolean approved,
+                                               Long afterId, int size) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        List<ItemResponse> rows;
+        if (bitmapIndex.isReady()) {
+            List<Long> ids = bitmapIndex.idsBefore(new ItemBitmapIndex.Query(statuses, categories, approved), afterId, pageSize + 1);
+            rows = cachedItems(ids);
+        } else {
+            List<Specification<Item>> specs = attributeSpecifications(statuses, categories, approved);
+            if (afterId != null) {
+                specs.add(ItemSpecifications.idBelow(afterId));
+            }
+            specs.add(ItemSpecifications.fetchUsers());
+            rows = toResponses(itemRepository.findBy(Specification.allOf(specs),
+                    query -> query.sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(pageSize + 1).all()));
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ItemResponse> items = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextAfterId = hasMore ? items.get(items.size() - 1).getId() : null;
+        return new ItemIdPageResponse(items, nextAfterId, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countByAttributes(List<String> statuses, List<String> categories, Boolean approved) {
+        if (bitmapIndex.isReady()) {
+            return bitmapIndex.count(new ItemBitmapIndex.Query(statuses, categories, approved));
+        }
+        return itemRepository.count(Specification.allOf(attributeSpecifications(statuses, categories, approved)));
+    }
+
+    private static List<Specification<Item>> attributeSpecifications(List<String> statuses, List<String> categories, Boolean approved) {
+        List<Specification<Item>> specs = new ArrayList<>();
+        if (statuses != null && !statuses.isEmpty()) {
+            specs.add(ItemSpecifications.statusIn(statuses));
+        }
+        if (categories != null && !categories.isEmpty()) {
+            specs.add(ItemSpecifications.categoryIn(categories));
+        }
+        if (approved != null) {
+            specs.add(ItemSpecifications.isApproved(approved));
+        }
+        return specs;
+    }
+
+    // Items in the order of ids, from the item cache where present and one IN query per chunk otherwise
+    private List<ItemResponse> cachedItems(List<Long> ids) {
+        Cache cache = cache(CacheConfig.ITEMS);
+        Map<Long, ItemResponse> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            ItemResponse cached = cache.get(id, ItemResponse.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        for (List<Long> chunk : chunks(missing)) {
+            for (ItemResponse item : fillingCache(() -> itemRepository.findResponsesByIdIn(chunk))) {
+                found.put(item.getId(), item);
+                cache.put(item.getId(), item);
+            }
+        }
+
+        List<ItemResponse> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            // Deleted after the bitmap was read
+            ItemResponse item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    private List<Specification<Item>> filterSpecifications(ItemFilter filter) {
+        List<Specification<Item>> specs = new ArrayList<>();
+        if (filter == null) {
+            return specs;
+        }
+        if (filter.getStatus() != null && !filter.getStatus().isBlank()) {
+            specs.add(ItemSpecifications.hasStatus(filter.getStatus()));
+        }
+        if (filter.getCategory() != null && !filter.getCategory().isBlank()) {
+            specs.add(ItemSpecifications.hasCategory(filter.getCategory()));
+        }
+        if (filter.getApproved() != null) {
+            specs.add(ItemSpecifications.isApproved(filter.getApproved()));
+        }
+        if (filter.getPostedBy() != null) {
+            specs.add(ItemSpecifications.postedBy(filter.getPostedBy()));
+        }
+        if (filter.getMinReward() != null) {
+            specs.add(ItemSpecifications.rewardAtLeast(filter.getMinReward()));
+        }
+        if (filter.getLocation() != null && !filter.getLocation().isBlank()) {
+            String location = filter.getLocation();
+            specs.add(locationDirectory.resolve(location)
+                    .map(place -> ItemSpecifications.atLocationCode(place.getCode()))
+                    .orElseGet(() -> ItemSpecifications.locationContaining(location)));
+        }
+        if (filter.getFrom() != null && !filter.getFrom().isBlank()) {
+            specs.add(ItemSpecifications.createdFrom(parseBound(filter.getFrom(), false)));
+        }
+        if (filter.getTo() != null && !filter.getTo().isBlank()) {
+            specs.add(ItemSpecifications.createdBefore(parseBound(filter.getTo(), true)));
+        }
+        return specs;
+    }
+
+    // "2024-05-01" or "2024-05-01T10:00"; a date used as the upper bound means the end of that day
+    private static LocalDateTime parseBound(String value, boolean upper) {
+        try {
+            if (value.length() == 10) {
+                LocalDate date = LocalDate.parse(value);
+                return upper ? date.plusDays(1).atStartOfDay() : date.atStartOfDay();
+            }
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+
+    // "field" or "field,asc|desc"; id breaks ties so pages never overlap
+    private static Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return DEFAULT_SORT;
+        }
+        String[] parts = sort.split(",");
+        String field = parts[0].trim();
+        if (!SORTABLE_FIELDS.contains(field)) {
+            throw new IllegalArgumentException("Cannot sort by " + field + "; use one of " + SORTABLE_FIELDS);
+        }
+        Sort.Direction direction = Sort.Direction.DESC;
+        if (parts.length > 1) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid sort direction: " + parts[1]));
+        }
+        return Sort.by(direction, field).and(Sort.by(direction, "id"));
+    }
+
+    private List<ItemResponse> toResponses(List<Item> items) {
+        List<ItemResponse> responses = new ArrayList<>(items.size());
+        for (Item item : items) {
+            responses.add(mapToResponse(item));
+        }
+        return responses;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ItemListVersion getListVersion() {
+        return itemRepository.findListVersion();
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.ITEMS, key = "#id")
+    @Transactional(readOnly = true)
     public ItemResponse getItemById(Long id) {
-        Item item = itemRepository.findById(id)
-                .orElseThrow(()->new RuntimeException("Item not found with id: "+id));
-        return mapToResponse(item);
+        return fillingCache(() -> {
+            Item item = itemRepository.findById(id)
+                    .orElseThrow(()->new RuntimeException("Item not found with id: "+id));
+            return mapToResponse(item);
+        });
     }
 
     @Override
+    @Transactional
     public void deleteItem(Long id) {
-        if (!itemRepository.existsById(id)) {
+        ItemResponse previous = cachedItem(id);
+        if (itemRepository.deleteByIdAndOwner(id, null) == 0) {
             throw new RuntimeException("Item not found with id: " + id);
         }
-        itemRepository.deleteById(id);
+        eventPublisher.publishEvent(ItemChangedEvent.deleted(id));
+        evictItem(id, previous);
     }
 
+    // Single conditional delete; the existence check only runs when nothing was deleted
     @Override
+    @Transactional
+    public boolean deleteItem(Long id, Long currentUserId, Role currentUserRole) {
+        Long ownerId = currentUserRole == Role.ADMIN ? null : currentUserId;
+        ItemResponse previous = cachedItem(id);
+        if (itemRepository.deleteByIdAndOwner(id, ownerId) == 0) {
+            if (!itemRepository.existsById(id)) {
+                throw new RuntimeException("Item not found with id: " + id);
+            }
+            return false;
+        }
+        eventPublisher.publishEvent(ItemChangedEvent.deleted(id));
+        evictItem(id, previous);
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<ItemResponse> getItemsByUser(User user) {
-        return itemRepository.findByPostedBy(user).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return getItemsByUserId(user.getId());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<ItemResponse> getItemsByUserId(Long userId) {
+        return itemRepository.findResponsesByPostedById(userId);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.ITEMS_BY_STATUS)
+    @Transactional(readOnly = true)
     public List<ItemResponse> getItemsByStatus(String status) {
-        return itemRepository.findByStatus(status).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return fillingCache(() -> itemRepository.findResponsesByStatus(status));
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.ITEMS_BY_CATEGORY)
+    @Transactional(readOnly = true)
     public List<ItemResponse> getItemsByCategory(String category) {
-        return itemRepository.findByCategory(category).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return fillingCache(() -> itemRepository.findResponsesByCategory(category));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemResponse> searchItemsByLocation(String location) {
-        return itemRepository.findByLocationContainingIgnoreCase(location).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        // Known places use the location_code index; anything else falls back to the substring scan
+        return locationDirectory.resolve(location)
+                .map(place -> itemRepository.findResponsesByLocationCode(place.getCode()))
+                .orElseGet(() -> itemRepository.findResponsesByLocationContaining(location));
     }
 
-    private ItemResponse mapToResponse(Item item){
-        return new ItemResponse(
+    // Served from the in-memory counters; the GROUP BY path is used on request and until the counters are built
+    @Override
+    public ItemFacetsResponse getFacets(Boolean approved, String status, String category, String location, boolean fromDatabase) {
+        // A place name or alias counts as its code; "other", or anything that is no known place, passes through
+        String place = location == null || location.isBlank() ? null
+                : locationDirectory.resolve(location).map(CampusLocation::getCode).orElse(location);
+        ItemFacetCounter.Filter filter = new ItemFacetCounter.Filter(approved, blankToNull(status), blankToNull(category), place);
+        ItemFacetsResponse facets = fromDatabase ? null : facetCounter.facets(filter);
+        return facets != null ? facets : facetCounter.facetsFromDatabase(filter);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    @Override
+    public List<NearbyItemResponse> findNearby(double latitude, double longitude, double radiusMeters, int limit) {
+        checkCoordinates(latitude, longitude);
+        if (radiusMeters <= 0 || radiusMeters > ItemGeoIndex.MAX_RADIUS_METERS) {
+            throw new IllegalArgumentException("radius must be between 0 and " + (int) ItemGeoIndex.MAX_RADIUS_METERS + " meters");
+        }
+        int max = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        return geoIndex.near(latitude, longitude, radiusMeters, max);
+    }
+
+    @Override
+    public List<ItemResponse> searchItems(String query, int page, int size) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        return searchIndex.search(query, Math.max(page, 0), pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemMatchResponse> getMatches(Long id, int limit) {
+        if (!itemRepository.existsById(id)) {
+            throw new RuntimeException("Item not found with id: " + id);
+        }
+        int max = limit <= 0 ? 10 : Math.min(limit, ItemMatchIndex.MAX_MATCHES);
+        return matchIndex.matchesFor(id, max);
+    }
+
+    // Adds the code of a recognised place, and the request's pin or else the place's surveyed coordinates
+    private void applyLocation(Item item, ItemRequest itemRequest) {
+        Double latitude = itemRequest.getLatitude();
+        Double longitude = itemRequest.getLongitude();
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("latitude and longitude must be given together");
+        }
+        if (latitude != null) {
+            checkCoordinates(latitude, longitude);
+        }
+
+        // The text is kept as the user wrote it ("Campus 15 canteen"); the place only adds its code and coordinates
+        CampusLocation place = locationDirectory.resolve(itemRequest.getLocation()).orElse(null);
+        item.setLocation(itemRequest.getLocation());
+        item.setLocationCode(place != null ? place.getCode() : null);
+        if (place != null && latitude == null) {
+            latitude = place.getLatitude();
+            longitude = place.getLongitude();
+        }
+        item.setLatitude(latitude);
+        item.setLongitude(longitude);
+    }
+
+    private static void checkCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Invalid coordinates: " + latitude + ", " + longitude);
+        }
+    }
+
+    ItemResponse mapToResponse(Item item){
+        ItemResponse response = new ItemResponse(
                 item.getId(),
                 item.getTitle(),
                 item.getDescription(),
                 item.getLocation(),
                 item.getCategory(),
+                item.getStatus(),
+                item.isApproved(),
                 item.getImageUrl(),
                 item.getCreatedAt() != null ? item.getCreatedAt().toString() : null,
                 item.getUpdatedAt() != null ? item.getUpdatedAt().toString() : null,
@@ -102,27 +558,376 @@ public class ItemServiceImpl implements ItemService {
                 item.getPostedBy() != null ? item.getPostedBy().getName() : null,
                 item.getPostedBy() != null ? item.getPostedBy().getId() : null
         );
+        response.setLocationCode(item.getLocationCode());
+        response.setLatitude(item.getLatitude());
+        response.setLongitude(item.getLongitude());
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public ItemResponse updateItem(Long id, ItemRequest itemRequest, Long currentUserId, Role currentUserRole) {
+        // Only allow the owner or admin to update, checked by the UPDATE itself
+        Long ownerId = currentUserRole == Role.ADMIN ? null : currentUserId;
+        ItemResponse previous = cachedItem(id);
+        Item located = new Item();
+        applyLocation(located, itemRequest);
+        int updated = itemRepository.updateByIdAndOwner(
+                id,
+                ownerId,
+                itemRequest.getTitle(),
+                itemRequest.getDescription(),
+                located.getLocation(),
+                located.getLocationCode(),
+                located.getLatitude(),
+                located.getLongitude(),
+                itemRequest.getCategory(),
+                itemRequest.getStatus(),
+                itemRequest.getReward(),
+                LocalDateTime.now()
+        );
+        return afterUpdate(id, updated, previous);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void checkCanUpdateItem(Long id, Long currentUserId, Role currentUserRole) {
+        Long ownerId = currentUserRole == Role.ADMIN ? null : currentUserId;
+        if (!itemRepository.existsByIdAndOwner(id, ownerId)) {
+            throw updateRefused(id);
+        }
     }
 
-    public ItemResponse updateItem(Long id, ItemRequest itemRequest, User currentUser) {
-        Item item = itemRepository.findById(id)
+    @Override
+    @Transactional
+    public ItemResponse updateItemImage(Long id, String imageUrl, Long currentUserId, Role currentUserRole) {
+        Long ownerId = currentUserRole == Role.ADMIN ? null : currentUserId;
+        ItemResponse previous = cachedItem(id);
+        int updated = itemRepository.updateImageUrlByIdAndOwner(id, ownerId, imageUrl, LocalDateTime.now());
+        return afterUpdate(id, updated, previous);
+    }
+
+    private RuntimeException updateRefused(Long id) {
+        if (!itemRepository.existsById(id)) {
+            return new RuntimeException("Item not found with id: " + id);
+        }
+        return new RuntimeException("You don't have permission to update this item");
+    }
+
+    private ItemResponse afterUpdate(Long id, int updated, ItemResponse previous) {
+        if (updated == 0) {
+            throw updateRefused(id);
+        }
+
+        ItemResponse response = itemRepository.findResponseById(id)
                 .orElseThrow(() -> new RuntimeException("Item not found with id: " + id));
+        eventPublisher.publishEvent(new ItemChangedEvent(ItemChangedEvent.Type.UPDATED, id, response));
+        evictItem(id, previous);
+        evictListings(response.getStatus(), response.getCategory());
+        return response;
+    }
 
-        // Only allow the owner or admin to update
-        if (!item.getPostedBy().getId().equals(currentUser.getId()) &&
-                !currentUser.getRole().name().equals("ADMIN")) {
-            throw new RuntimeException("You don't have permission to update this item");
+    @Override
+    @Transactional
+    public List<BulkModerationResult> moderateItems(List<UpdateItemStatusDto> operations) {
+        BulkModerationResult[] results = new BulkModerationResult[operations.size()];
+
+        // item id -> position of its operation; each item may appear once per request
+        Map<Long, Integer> positions = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            UpdateItemStatusDto operation = operations.get(i);
+            if (operation.getItemId() == null || operation.getAction() == null) {
+                results[i] = new BulkModerationResult(operation.getItemId(), operation.getAction(), false, "itemId and action are required");
+            } else if (operation.getAction() == ModerationAction.SET_STATUS
+                    && (operation.getStatus() == null || operation.getStatus().isBlank())) {
+                results[i] = new BulkModerationResult(operation.getItemId(), operation.getAction(), false, "status is required for SET_STATUS");
+            } else if (positions.putIfAbsent(operation.getItemId(), i) != null) {
+                results[i] = new BulkModerationResult(operation.getItemId(), operation.getAction(), false, "Duplicate item id in request");
+            }
         }
 
-        item.setTitle(itemRequest.getTitle());
-        item.setDescription(itemRequest.getDescription());
-        item.setLocation(itemRequest.getLocation());
-        item.setCategory(itemRequest.getCategory());
-        item.setStatus(itemRequest.getStatus());
-        item.setReward(itemRequest.getReward());
-        item.setUpdatedAt(LocalDateTime.now());
+        Set<Long> existing = new HashSet<>();
+        for (List<Long> chunk : chunks(new ArrayList<>(positions.keySet()))) {
+            existing.addAll(itemRepository.findExistingIds(chunk));
+        }
+
+        List<Long> toApprove = new ArrayList<>();
+        List<Long> toReject = new ArrayList<>();
+        List<Long> toDelete = new ArrayList<>();
+        Map<String, List<Long>> toSetStatus = new HashMap<>();
+        for (Map.Entry<Long, Integer> position : positions.entrySet()) {
+            Long itemId = position.getKey();
+            UpdateItemStatusDto operation = operations.get(position.getValue());
+            if (!existing.contains(itemId)) {
+                results[position.getValue()] = new BulkModerationResult(itemId, operation.getAction(), false, "Item not found");
+                continue;
+            }
+            switch (operation.getAction()) {
+                case APPROVE -> toApprove.add(itemId);
+                case REJECT -> toReject.add(itemId);
+                case DELETE -> toDelete.add(itemId);
+                case SET_STATUS -> toSetStatus.computeIfAbsent(operation.getStatus(), status -> new ArrayList<>()).add(itemId);
+            }
+            results[position.getValue()] = new BulkModerationResult(itemId, operation.getAction(), true, null);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (List<Long> chunk : chunks(toApprove)) {
+            itemRepository.updateApprovedByIdIn(chunk, true, now);
+        }
+        for (List<Long> chunk : chunks(toReject)) {
+            itemRepository.updateApprovedByIdIn(chunk, false, now);
+        }
+        for (Map.Entry<String, List<Long>> group : toSetStatus.entrySet()) {
+            for (List<Long> chunk : chunks(group.getValue())) {
+                itemRepository.updateStatusByIdIn(chunk, group.getKey(), now);
+            }
+        }
+        for (List<Long> chunk : chunks(toDelete)) {
+            itemRepository.deleteByIdIn(chunk);
+        }
+
+        // A bulk change touches many lists, so clear them rather than evicting key by key
+        Cache items = cache(CacheConfig.ITEMS);
+        existing.forEach(items::evict);
+        cache(CacheConfig.ITEMS_BY_STATUS).clear();
+        cache(CacheConfig.ITEMS_BY_CATEGORY).clear();
+
+        for (Long itemId : toDelete) {
+            eventPublisher.publishEvent(ItemChangedEvent.deleted(itemId));
+        }
+        Set<Long> approved = new HashSet<>(toApprove);
+        List<Long> changed = new ArrayList<>(toApprove);
+        changed.addAll(toReject);
+        toSetStatus.values().forEach(changed::addAll);
+        for (List<Long> chunk : chunks(changed)) {
+            for (ItemResponse item : itemRepository.findResponsesByIdIn(chunk)) {
+                ItemChangedEvent.Type type = approved.contains(item.getId())
+                        ? ItemChangedEvent.Type.APPROVED
+                        : ItemChangedEvent.Type.UPDATED;
+                eventPublisher.publishEvent(new ItemChangedEvent(type, item.getId(), item));
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    // Rows are parsed and validated one at a time and inserted importBatchSize per transaction as one JDBC batch.
+    // Each batch commits on its own, so an import that fails halfway keeps the batches before it.
+    @Override
+    public ItemImportResult importItems(InputStream in, DataFormat format, Long postedById) {
+        long rowsRead = 0;
+        long imported = 0;
+        List<ItemImportError> errors = new ArrayList<>();
+        List<Item> batch = new ArrayList<>(importBatchSize);
+        List<Long> rows = new ArrayList<>(importBatchSize);
+        LocalDateTime now = LocalDateTime.now();
+
+        try (ItemImportReader reader = new ItemImportReader(in, format, objectMapper)) {
+            for (ItemImportReader.Row row = reader.next(); row != null; row = reader.next()) {
+                rowsRead++;
+                String error = row.error();
+                if (error == null) {
+                    try {
+                        batch.add(importedItem(row.values(), now));
+                        rows.add(row.number());
+                    } catch (IllegalArgumentException e) {
+                        error = e.getMessage();
+                    }
+                }
+                if (error != null) {
+                    addImportError(errors, new ItemImportError(row.number(), error));
+                }
+                if (batch.size() == importBatchSize) {
+                    imported += insertBatch(batch, rows, postedById, errors);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        imported += insertBatch(batch, rows, postedById, errors);
+
+        if (imported > 0) {
+            refreshAfterImport();
+        }
+        long failed = rowsRead - imported;
+        errors.sort(Comparator.comparingLong(ItemImportError::getRow));
+        return new ItemImportResult(imported, failed, errors, failed > errors.size());
+    }
+
+    // Same rules as createItem, plus the columns only an import may set: approved and the original dates
+    private Item importedItem(Map<String, String> values, LocalDateTime now) {
+        String title = values.get("title");
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("title is required");
+        }
+        ItemRequest request = new ItemRequest(title.trim(), values.get("description"), values.get("location"),
+                values.get("category"), values.get("status"), importNumber(values, "reward"));
+        request.setLatitude(importNumber(values, "latitude"));
+        request.setLongitude(importNumber(values, "longitude"));
+        checkLength("title", request.getTitle(), 255);
+        checkLength("description", request.getDescription(), 1000);
+        checkLength("location", request.getLocation(), 255);
+        checkLength("category", request.getCategory(), 255);
+        checkLength("status", request.getStatus(), 255);
+        if (request.getReward() != null && request.getReward() < 0) {
+            throw new IllegalArgumentException("reward must not be negative");
+        }
+
+        Item item = new Item();
+        item.setTitle(request.getTitle());
+        item.setDescription(request.getDescription());
+        applyLocation(item, request);
+        item.setCategory(request.getCategory());
+        item.setStatus(request.getStatus());
+        item.setReward(request.getReward());
+        item.setApproved(importBoolean(values, "approved"));
+        LocalDateTime createdAt = values.containsKey("createdat") ? importDate(values, "createdat") : now;
+        item.setCreatedAt(createdAt);
+        item.setReportedAt(values.containsKey("reportedat") ? importDate(values, "reportedat") : createdAt);
+        item.setUpdatedAt(now);
+        return item;
+    }
+
+    private static Double importNumber(Map<String, String> values, String column) {
+        String value = values.get(column);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            double number = Double.parseDouble(value.trim());
+            if (!Double.isFinite(number)) {
+                throw new NumberFormatException();
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a number: " + value);
+        }
+    }
+
+    private static boolean importBoolean(Map<String, String> values, String column) {
+        String value = values.get(column);
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new IllegalArgumentException(column + " must be true or false: " + value);
+        };
+    }
+
+    private static LocalDateTime importDate(Map<String, String> values, String column) {
+        try {
+            return parseBound(values.get(column).trim(), false);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + values.get(column));
+        }
+    }
+
+    private static void checkLength(String column, String value, int max) {
+        if (value != null && value.length() > max) {
+            throw new IllegalArgumentException(column + " is longer than " + max + " characters");
+        }
+    }
+
+    private static void addImportError(List<ItemImportError> errors, ItemImportError error) {
+        if (errors.size() < MAX_IMPORT_ERRORS) {
+            errors.add(error);
+        }
+    }
+
+    // Inserts and empties the batch, returning how many rows were inserted. A batch the database rejects
+    // is retried row by row so that only the offending rows are reported; ids it had reserved are skipped.
+    private int insertBatch(List<Item> items, List<Long> rows, Long postedById, List<ItemImportError> errors) {
+        int inserted = items.size();
+        try {
+            if (!items.isEmpty()) {
+                persistItems(items, postedById);
+            }
+        } catch (RuntimeException batchError) {
+            for (int i = 0; i < items.size(); i++) {
+                Item item = items.get(i);
+                item.setId(null);
+                try {
+                    persistItems(List.of(item), postedById);
+                } catch (RuntimeException e) {
+                    inserted--;
+                    addImportError(errors, new ItemImportError(rows.get(i), NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+                }
+            }
+        }
+        items.clear();
+        rows.clear();
+        return inserted;
+    }
+
+    private void persistItems(List<Item> items, Long postedById) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(items.size());
+            User postedBy = entityManager.getReference(User.class, postedById);
+            for (Item item : items) {
+                item.setPostedBy(postedBy);
+                entityManager.persist(item);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            if (replicaLagGuard != null) {
+                replicaLagGuard.markWrite();
+            }
+        });
+    }
+
+    // Imported rows publish no per-item events; rebuild the in-memory views once instead of
+    // replaying thousands of changes, and tell live subscribers to reload
+    private void refreshAfterImport() {
+        cacheManager.getCache(CacheConfig.ITEMS_BY_STATUS).clear();
+        cacheManager.getCache(CacheConfig.ITEMS_BY_CATEGORY).clear();
+        // One load shared by every view; each replays the changes committed while it was being read
+        List<ItemView> views = List.of(searchIndex, matchIndex, geoIndex, facetCounter, bitmapIndex, approvedFeed);
+        views.forEach(ItemView::beginRebuild);
+        List<ItemResponse> items = itemRepository.findAllResponses();
+        views.forEach(view -> view.rebuild(items));
+        eventStream.reset();
+    }
+
+    private static <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + BULK_CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+
+    // Reads whose results go into the shared caches must not come from a replica that missed a recent write
+    private <T> T fillingCache(Supplier<T> read) {
+        return replicaLagGuard != null ? replicaLagGuard.fillingCache(read) : read.get();
+    }
+
+    private ItemResponse cachedItem(Long id) {
+        return cache(CacheConfig.ITEMS).get(id, ItemResponse.class);
+    }
+
+    // Evicts the item and the status/category lists it was in. Without a cached copy of the
+    // previous state we cannot tell which lists held it, so both list caches are cleared.
+    private void evictItem(Long id, ItemResponse previous) {
+        cache(CacheConfig.ITEMS).evict(id);
+        if (previous != null) {
+            evictListings(previous.getStatus(), previous.getCategory());
+        } else {
+            cache(CacheConfig.ITEMS_BY_STATUS).clear();
+            cache(CacheConfig.ITEMS_BY_CATEGORY).clear();
+        }
+    }
+
+    private void evictListings(String status, String category) {
+        cache(CacheConfig.ITEMS_BY_STATUS).evict(SimpleKeyGenerator.generateKey((Object) status));
+        cache(CacheConfig.ITEMS_BY_CATEGORY).evict(SimpleKeyGenerator.generateKey((Object) category));
+    }
 
-        Item updated = itemRepository.save(item);
-        return mapToResponse(updated);
+    // Evictions are deferred until the surrounding transaction commits, so a concurrent
+    // read cannot re-cache the row as it was before the write
+    private Cache cache(String name) {
+        return new TransactionAwareCacheDecorator(cacheManager.getCache(name));
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+
+import java.util.List;
+
+// An in-memory view of the items table kept current from ItemChangedEvent. Rebuilding from a fresh load takes
+// two calls so several views can share one load: beginRebuild() before the rows are read, rebuild(items) after.
+// Changes applied in between are replayed over the loaded rows, so one committed while they were being read
+// is not lost.
+interface ItemView {
+    void beginRebuild();
+
+    void rebuild(List<ItemResponse> items);
+}
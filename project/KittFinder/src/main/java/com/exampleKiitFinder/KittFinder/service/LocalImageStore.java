@@ -0,0 +1,142 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+// Stores images under <root>/<aa>/<bb>/<sha256>.<ext>, variants as <sha256>-<variant>.<ext>.
+// Uploads are streamed to a temp file while hashing, then moved into place atomically.
+@Component
+public class LocalImageStore implements ImageStore {
+    public static final long MAX_IMAGE_BYTES = 10L * 1024 * 1024;
+    private static final int COPY_BUFFER = 64 * 1024;
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}\\.(jpg|png|gif|webp)");
+    private static final Pattern VARIANT = Pattern.compile("[a-z0-9]{1,16}");
+
+    private final Path root;
+
+    public LocalImageStore(@Value("${kittfinder.images.dir:uploads/images}") String root) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        Files.createDirectories(this.root);
+    }
+
+    @Override
+    public StoredImage store(InputStream content) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(content, COPY_BUFFER);
+        ImageFormat format = ImageFormat.sniff(in);
+        if (format == null) {
+            throw new IllegalArgumentException("Only JPEG, PNG, GIF and WebP images are supported");
+        }
+
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            long size = 0;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                byte[] buffer = new byte[COPY_BUFFER];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > MAX_IMAGE_BYTES) {
+                        throw new IllegalArgumentException("Image is larger than " + MAX_IMAGE_BYTES + " bytes");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            String key = HexFormat.of().formatHex(digest.digest()) + "." + format.extension;
+            Path target = pathFor(key, null);
+            boolean created = !Files.exists(target);
+            if (created) {
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new StoredImage(key, format.contentType, size, created);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void storeVariant(String key, String variant, InputStream content) throws IOException {
+        Path target = pathFor(key, variant);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "variant-", ".tmp");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Path original = pathFor(key, null);
+        String stem = key.substring(0, key.indexOf('.')) + "-";
+        try (DirectoryStream<Path> variants = Files.newDirectoryStream(original.getParent(), stem + "*")) {
+            for (Path variant : variants) {
+                Files.deleteIfExists(variant);
+            }
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        Files.deleteIfExists(original);
+    }
+
+    @Override
+    public Optional<Resource> load(String key) {
+        return resource(key, null);
+    }
+
+    @Override
+    public Optional<Resource> loadVariant(String key, String variant) {
+        return resource(key, variant);
+    }
+
+    private Optional<Resource> resource(String key, String variant) {
+        if (!isValidKey(key) || (variant != null && !VARIANT.matcher(variant).matches())) {
+            return Optional.empty();
+        }
+        Path path = pathFor(key, variant);
+        return Files.isRegularFile(path) ? Optional.of(new FileSystemResource(path)) : Optional.empty();
+    }
+
+    static boolean isValidKey(String key) {
+        return key != null && KEY.matcher(key).matches();
+    }
+
+    private Path pathFor(String key, String variant) {
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("Invalid image key: " + key);
+        }
+        int dot = key.indexOf('.');
+        String name = variant == null ? key : key.substring(0, dot) + "-" + variant + key.substring(dot);
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(name);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
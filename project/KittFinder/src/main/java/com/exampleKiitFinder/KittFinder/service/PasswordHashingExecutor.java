@@ -0,0 +1,107 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Runs BCrypt work (login verification, registration hashing) off the servlet threads on a small fixed pool.
+// By default the pool uses half the cores, so a login burst cannot take the CPU from the other endpoints.
+// Work beyond the queue, or beyond the per-IP / per-email in-flight limits, is rejected immediately.
+@Component
+public class PasswordHashingExecutor {
+    private final ThreadPoolExecutor executor;
+    private final int maxPerIp;
+    private final int maxPerEmail;
+    // key -> requests currently queued or running
+    private final Map<String, Integer> inFlightByIp = new ConcurrentHashMap<>();
+    private final Map<String, Integer> inFlightByEmail = new ConcurrentHashMap<>();
+
+    public PasswordHashingExecutor(@Value("${kittfinder.auth.hashing-threads:0}") int threads,
+                                   @Value("${kittfinder.auth.hashing-queue:64}") int queueCapacity,
+                                   @Value("${kittfinder.auth.max-concurrent-per-ip:4}") int maxPerIp,
+                                   @Value("${kittfinder.auth.max-concurrent-per-email:2}") int maxPerEmail,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.maxPerIp = maxPerIp;
+        this.maxPerEmail = maxPerEmail;
+
+        // The application's registry, not the global one: a second context (tests, benchmarks) would otherwise
+        // find the gauges already registered against the first context's executor
+        meterRegistry.gauge("kittfinder.auth.hashing.queued", executor, pool -> pool.getQueue().size());
+        meterRegistry.gauge("kittfinder.auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    public <T> CompletableFuture<T> submit(String clientIp, String email, Supplier<T> task) {
+        String ipKey = clientIp != null ? clientIp : "";
+        String emailKey = email != null ? email.toLowerCase(Locale.ROOT) : "";
+
+        if (!tryAcquire(inFlightByIp, ipKey, maxPerIp)) {
+            throw new AuthThrottledException("Too many concurrent sign-in attempts from this address", false);
+        }
+        if (!tryAcquire(inFlightByEmail, emailKey, maxPerEmail)) {
+            release(inFlightByIp, ipKey);
+            throw new AuthThrottledException("Too many concurrent sign-in attempts for this account", false);
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(task, executor).whenComplete((result, error) -> {
+                release(inFlightByEmail, emailKey);
+                release(inFlightByIp, ipKey);
+            });
+        } catch (RejectedExecutionException e) {
+            release(inFlightByEmail, emailKey);
+            release(inFlightByIp, ipKey);
+            throw new AuthThrottledException("Sign-in is busy, please retry shortly", true);
+        }
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static boolean tryAcquire(Map<String, Integer> inFlight, String key, int limit) {
+        boolean[] acquired = new boolean[1];
+        inFlight.compute(key, (k, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= limit) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    private static void release(Map<String, Integer> inFlight, String key) {
+        inFlight.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+}
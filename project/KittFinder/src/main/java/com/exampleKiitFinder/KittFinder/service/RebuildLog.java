@@ -0,0 +1,31 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// The changes an ItemView applied while rebuilds of it were loading rows. Not thread-safe: the view calls it
+// under its own write lock. Overlapping rebuilds share the log until the last one finishes; replaying a change
+// the loaded rows already contain is harmless, since applying a change puts the item in its changed state.
+final class RebuildLog {
+    private final List<ItemChangedEvent> events = new ArrayList<>();
+    private int running;
+
+    void begin() {
+        running++;
+    }
+
+    void record(ItemChangedEvent event) {
+        if (running > 0) {
+            events.add(event);
+        }
+    }
+
+    // Everything recorded since the earliest running begin(), to apply over the rows loaded after it
+    List<ItemChangedEvent> finish() {
+        List<ItemChangedEvent> replay = new ArrayList<>(events);
+        if (running > 0 && --running == 0) {
+            events.clear();
+        }
+        return replay;
+    }
+}
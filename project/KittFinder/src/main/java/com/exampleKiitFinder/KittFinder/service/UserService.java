@@ -6,6 +6,7 @@ import java.util.Optional;
 
 public interface UserService {
     Optional<User> findByEmail(String email);
+    Optional<User> findById(Long id);
     User saveUser(User user);
 
     User getUserByEmail(String email); // ✅ Add this
@@ -0,0 +1,32 @@
+-- Schema as previously created by hibernate.ddl-auto=update.
+-- Existing databases are baselined at version 1 and skip this script.
+CREATE TABLE IF NOT EXISTS users (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    email      VARCHAR(255),
+    name       VARCHAR(255),
+    password   VARCHAR(255),
+    role       ENUM ('ADMIN', 'USER'),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS items (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    approved    BIT    NOT NULL,
+    category    VARCHAR(255),
+    created_at  DATETIME(6),
+    description VARCHAR(1000),
+    image_url   VARCHAR(255),
+    location    VARCHAR(255),
+    reported_at DATETIME(6),
+    reward      FLOAT(53),
+    status      VARCHAR(255),
+    title       VARCHAR(255),
+    updated_at  DATETIME(6),
+    posted_by   BIGINT,
+    reported_by BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_items_posted_by FOREIGN KEY (posted_by) REFERENCES users (id),
+    CONSTRAINT fk_items_reported_by FOREIGN KEY (reported_by) REFERENCES users (id)
+);
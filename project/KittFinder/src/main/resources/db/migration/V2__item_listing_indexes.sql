@@ -0,0 +1,17 @@
+-- Composite indexes for the ItemRepository listing queries.
+-- Every listing is ordered by created_at, so it is the trailing column of each index.
+
+-- Keyset feed: ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_items_created_id ON items (created_at, id);
+
+-- Moderation queue and approved feed filtered by status
+CREATE INDEX idx_items_approved_status_created ON items (approved, status, created_at);
+
+-- "My items" and admin per-user listings
+CREATE INDEX idx_items_posted_by_created ON items (posted_by, created_at);
+
+CREATE INDEX idx_items_status_created ON items (status, created_at);
+
+CREATE INDEX idx_items_category_created ON items (category, created_at);
+
+CREATE INDEX idx_items_reported_by ON items (reported_by);
@@ -0,0 +1,2 @@
+-- Lets MAX(updated_at) for list ETags be answered from the index instead of a table scan
+CREATE INDEX idx_items_updated_at ON items (updated_at);
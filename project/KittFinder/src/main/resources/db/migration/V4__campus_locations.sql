@@ -0,0 +1,9 @@
+-- Items keep the location text as entered and gain the resolved campus place and coordinates.
+-- The place dictionary itself is configuration (kittfinder.locations.file), not schema; rows are resolved
+-- against it by the application, which also backfills existing rows at startup.
+ALTER TABLE items ADD COLUMN location_code VARCHAR(32);
+ALTER TABLE items ADD COLUMN latitude FLOAT(53);
+ALTER TABLE items ADD COLUMN longitude FLOAT(53);
+
+-- Exact-place lookups replace LIKE '%...%' scans over items.location
+CREATE INDEX idx_items_location_code_created ON items (location_code, created_at);
@@ -0,0 +1,11 @@
+-- Item ids come from a pooled table generator instead of AUTO_INCREMENT, so Hibernate can batch item inserts.
+-- The application reserves Item.ID_ALLOCATION_SIZE (1000) ids per round trip; seeding next_val one block above
+-- the current maximum keeps every reserved id clear of existing rows.
+CREATE TABLE id_generators (
+    name     VARCHAR(64) NOT NULL,
+    next_val BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO id_generators (name, next_val)
+SELECT 'items', COALESCE(MAX(id), 0) + 1000 FROM items;
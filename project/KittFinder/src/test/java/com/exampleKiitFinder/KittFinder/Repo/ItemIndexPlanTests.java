@@ -0,0 +1,131 @@
+package com.exampleKiitFinder.KittFinder.Repo;
+
+import com.exampleKiitFinder.KittFinder.dto.ItemFilter;
+import com.exampleKiitFinder.KittFinder.service.ItemService;
+import org.flywaydb.core.Flyway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// EXPLAINs the SQL Hibernate actually generates for the listing queries (all columns plus the users join),
+// captured with a statement inspector, on a database of its own.
+@SpringBootTest(properties = {
+		"spring.datasource.url=" + ItemIndexPlanTests.URL,
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=com.exampleKiitFinder.KittFinder.Repo.ItemIndexPlanTests$LastStatement"
+})
+class ItemIndexPlanTests {
+
+	static final String URL = "jdbc:h2:mem:item_index_plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+	private static final LocalDateTime MIDDLE = LocalDateTime.of(2024, 1, 1, 5, 0);
+
+	public static class LastStatement implements StatementInspector {
+		static volatile String sql;
+
+		@Override
+		public String inspect(String sql) {
+			LastStatement.sql = sql;
+			return sql;
+		}
+	}
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private ItemService itemService;
+
+	@BeforeAll
+	static void migrate() throws SQLException {
+		Flyway.configure().dataSource(URL, "sa", "").load().migrate();
+
+		try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+			 Statement statement = connection.createStatement()) {
+			statement.execute("INSERT INTO users (name, email, role) VALUES ('Owner', 'owner@kiit.ac.in', 'USER')");
+			for (int i = 0; i < 500; i++) {
+				statement.execute("INSERT INTO items (title, approved, status, category, location, location_code, posted_by, created_at) VALUES " +
+						"('item " + i + "', " + (i % 2 == 0) + ", '" + (i % 3 == 0 ? "LOST" : "FOUND") + "', " +
+						"'cat" + (i % 10) + "', 'Campus " + (i % 25) + "', 'C" + (i % 25) + "', 1, TIMESTAMPADD(MINUTE, " + i + ", TIMESTAMP '2024-01-01 00:00:00'))");
+			}
+			statement.execute("ANALYZE");
+		}
+	}
+
+	@BeforeEach
+	void clearCapture() {
+		LastStatement.sql = null;
+	}
+
+	@Test
+	void keysetFeedUsesCreatedAtIndex() throws SQLException {
+		itemRepository.findPageAfter(MIDDLE, 300L, PageRequest.of(0, 21));
+		assertThat(plan(Timestamp.valueOf(MIDDLE), Timestamp.valueOf(MIDDLE), 300L, 21))
+				.contains("idx_items_created_id");
+	}
+
+	@Test
+	void approvedStatusListingUsesCompositeIndex() throws SQLException {
+		ItemFilter filter = new ItemFilter();
+		filter.setApproved(true);
+		filter.setStatus("LOST");
+		itemService.findItems(filter, null, 0, 20, null, false);
+		assertThat(plan("LOST", true, 0, 21)).contains("idx_items_approved_status_created");
+	}
+
+	@Test
+	void postedByListingUsesOwnerIndex() throws SQLException {
+		itemRepository.findResponsesByPostedById(1L);
+		// H2 keeps a separate index for the foreign key and may pick it; MySQL reuses the composite index for the key
+		assertThat(plan(1L)).containsPattern("idx_items_posted_by_created|fk_items_posted_by_index").doesNotContain("tablescan");
+	}
+
+	@Test
+	void statusListingUsesStatusIndex() throws SQLException {
+		itemRepository.findResponsesByStatus("FOUND");
+		assertThat(plan("FOUND")).contains("idx_items_status_created");
+	}
+
+	@Test
+	void categoryListingUsesCategoryIndex() throws SQLException {
+		itemRepository.findResponsesByCategory("cat3");
+		assertThat(plan("cat3")).contains("idx_items_category_created");
+	}
+
+	@Test
+	void locationListingUsesLocationCodeIndex() throws SQLException {
+		itemRepository.findResponsesByLocationCode("C15");
+		assertThat(plan("C15")).contains("idx_items_location_code_created");
+	}
+
+	// Plan of the last statement Hibernate prepared, with the parameters bound in the order they appear
+	private static String plan(Object... parameters) throws SQLException {
+		String sql = LastStatement.sql;
+		assertThat(sql).as("captured SQL").isNotNull();
+		try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+			 PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+			assertThat(statement.getParameterMetaData().getParameterCount()).as(sql).isEqualTo(parameters.length);
+			for (int i = 0; i < parameters.length; i++) {
+				statement.setObject(i + 1, parameters[i]);
+			}
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				return resultSet.getString(1).toLowerCase();
+			}
+		}
+	}
+}
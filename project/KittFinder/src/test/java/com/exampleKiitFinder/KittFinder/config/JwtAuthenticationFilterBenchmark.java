@@ -0,0 +1,69 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import com.exampleKiitFinder.KittFinder.service.CustomUserDetailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Full filter pass for an authenticated GET with a warm principal cache; the user lookup is stubbed
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+	@Param({"1", "1000"})
+	private int tokenCount;
+
+	private JwtAuthenticationFilter filter;
+	private String[] authorizationHeaders;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		JwtUtil jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+		CustomUserDetailService userDetailService = mock(CustomUserDetailService.class);
+		when(userDetailService.loadUserById(anyLong())).thenAnswer(invocation -> {
+			Long id = invocation.getArgument(0);
+			return new AuthenticatedUser(id, "user" + id + "@kiit.ac.in", "", Role.USER);
+		});
+
+		filter = new JwtAuthenticationFilter();
+		ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+		ReflectionTestUtils.setField(filter, "userDetailsService", userDetailService);
+		ReflectionTestUtils.setField(filter, "principalCache", new PrincipalCache());
+
+		authorizationHeaders = new String[tokenCount];
+		for (int i = 0; i < tokenCount; i++) {
+			authorizationHeaders[i] = "Bearer " + jwtUtil.generateToken("user" + i + "@kiit.ac.in", (long) i, Role.USER);
+		}
+	}
+
+	@Benchmark
+	public MockHttpServletResponse authenticatedRequest() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/items");
+		request.addHeader("Authorization", authorizationHeaders[next]);
+		next = (next + 1) % authorizationHeaders.length;
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			filter.doFilter(request, response, new MockFilterChain());
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+		return response;
+	}
+}
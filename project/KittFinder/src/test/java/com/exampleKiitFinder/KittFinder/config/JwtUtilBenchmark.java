@@ -0,0 +1,59 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// tokenCount above the verified-token cache size measures the uncached HMAC path
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+	@Param({"1", "1000", "20000"})
+	private int tokenCount;
+
+	private JwtUtil jwtUtil;
+	private String[] tokens;
+	private String[] subjects;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+		tokens = new String[tokenCount];
+		subjects = new String[tokenCount];
+		for (int i = 0; i < tokenCount; i++) {
+			subjects[i] = "user" + i + "@kiit.ac.in";
+			tokens[i] = jwtUtil.generateToken(subjects[i], (long) i, Role.USER);
+		}
+	}
+
+	private String nextToken() {
+		String token = tokens[next];
+		next = (next + 1) % tokens.length;
+		return token;
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtUtil.generateToken("user@kiit.ac.in", 1L, Role.USER);
+	}
+
+	@Benchmark
+	public String extractUsername() {
+		return jwtUtil.extractUsername(nextToken());
+	}
+
+	// Checked against the token's own subject, so this measures the success path
+	@Benchmark
+	public Boolean validateToken() {
+		int current = next;
+		return jwtUtil.validateToken(nextToken(), subjects[current]);
+	}
+}
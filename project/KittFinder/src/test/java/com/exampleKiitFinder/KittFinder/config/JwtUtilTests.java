@@ -0,0 +1,69 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final JwtUtil jwtUtil = new JwtUtil(registry);
+
+	@Test
+	void claimsAreVerifiedOnceAndThenServedFromTheCache() {
+		String token = jwtUtil.generateToken("claims@kiit.ac.in", 42L, Role.ADMIN);
+
+		Claims claims = jwtUtil.parseVerifiedClaims(token);
+		assertThat(claims.getSubject()).isEqualTo("claims@kiit.ac.in");
+		assertThat(jwtUtil.extractUserId(claims)).isEqualTo(42L);
+		assertThat(claims.get(JwtUtil.ROLE_CLAIM, String.class)).isEqualTo("ADMIN");
+
+		assertThat(jwtUtil.extractUsername(token)).isEqualTo("claims@kiit.ac.in");
+		assertThat(jwtUtil.validateToken(token, "claims@kiit.ac.in")).isTrue();
+		assertThat(jwtUtil.validateToken(token, "someone-else@kiit.ac.in")).isFalse();
+
+		assertThat(registry.get("kittfinder.jwt.verify").timer().count()).isEqualTo(1);
+		assertThat(registry.get("kittfinder.jwt.verify.cache.hits").counter().count()).isEqualTo(3);
+	}
+
+	@Test
+	void aTamperedSignatureIsRejectedEvenAfterTheTokenWasCached() {
+		String token = jwtUtil.generateToken("tampered@kiit.ac.in", 7L, Role.USER);
+		jwtUtil.parseVerifiedClaims(token);
+
+		// Same header and claims, different signature: the cache is keyed by the whole token
+		char last = token.charAt(token.length() - 2);
+		String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+		assertThatThrownBy(() -> jwtUtil.parseVerifiedClaims(tampered)).isInstanceOf(JwtException.class);
+		assertThat(jwtUtil.validateToken(tampered, "tampered@kiit.ac.in")).isFalse();
+	}
+
+	@Test
+	void anExpiredTokenIsRejected() {
+		Key key = (Key) ReflectionTestUtils.getField(jwtUtil, "signInKey");
+		long now = System.currentTimeMillis();
+		String expired = Jwts.builder()
+				.setSubject("expired@kiit.ac.in")
+				.claim(JwtUtil.USER_ID_CLAIM, 9L)
+				.setIssuedAt(new Date(now - 20_000))
+				.setExpiration(new Date(now - 10_000))
+				.signWith(key, SignatureAlgorithm.HS256)
+				.compact();
+
+		assertThatThrownBy(() -> jwtUtil.parseVerifiedClaims(expired)).isInstanceOf(ExpiredJwtException.class);
+		assertThat(jwtUtil.validateToken(expired, "expired@kiit.ac.in")).isFalse();
+	}
+}
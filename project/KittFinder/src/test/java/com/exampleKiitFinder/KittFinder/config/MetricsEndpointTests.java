@@ -0,0 +1,76 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import com.exampleKiitFinder.KittFinder.modell.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Unlinked from the global registry, so a meter registered there instead of the injected one is missing
+@SpringBootTest(properties = "management.metrics.use-global-registry=false")
+@AutoConfigureMockMvc
+// Tests turn metrics export off by default, which would 404 the scrape
+@AutoConfigureObservability
+class MetricsEndpointTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private final List<Long> savedUsers = new ArrayList<>();
+
+	@AfterEach
+	void deleteUsers() {
+		savedUsers.forEach(id -> jdbc.update("DELETE FROM users WHERE id = ?", id));
+	}
+
+	@Test
+	void prometheusScrapeIsForAdminsOnly() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + token("metrics-user", Role.USER)))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + token("metrics-admin", Role.ADMIN)))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString("kittfinder_jwt_sign_seconds_count")))
+				.andExpect(content().string(containsString("kittfinder_jwt_verify_seconds_count")))
+				.andExpect(content().string(containsString("kittfinder_auth_load_user_seconds_count")))
+				.andExpect(content().string(containsString("kittfinder_auth_bcrypt_seconds_count")))
+				.andExpect(content().string(containsString("kittfinder_http_queries_count{")));
+		mockMvc.perform(get("/actuator/health"))
+				.andExpect(status().isOk());
+	}
+
+	private String token(String name, Role role) {
+		User user = new User();
+		user.setName(name);
+		user.setEmail(name + "@kiit.ac.in");
+		user.setPassword("unused");
+		user.setRole(role);
+		user = userRepository.save(user);
+		savedUsers.add(user.getId());
+		return jwtUtil.generateToken(user.getEmail(), user.getId(), role);
+	}
+}
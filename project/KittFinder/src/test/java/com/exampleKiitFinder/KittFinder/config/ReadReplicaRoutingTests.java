@@ -0,0 +1,179 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.dto.ItemRequest;
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import com.exampleKiitFinder.KittFinder.modell.User;
+import com.exampleKiitFinder.KittFinder.service.ApprovedFeedSnapshot;
+import com.exampleKiitFinder.KittFinder.service.ItemSearchIndex;
+import com.exampleKiitFinder.KittFinder.service.ItemService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two embedded H2 databases stand in for the primary and the replica. Nothing replicates between
+// them, so the database a query reached can be told from the rows it returns.
+@SpringBootTest(properties = {
+		"kittfinder.datasource.replica.jdbc-url=jdbc:h2:mem:lost_found_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"kittfinder.datasource.replica.username=sa",
+		"kittfinder.datasource.replica.max-lag=1s"
+})
+class ReadReplicaRoutingTests {
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ReplicaLagGuard lagGuard;
+
+	@Autowired
+	private ItemSearchIndex searchIndex;
+
+	@Autowired
+	private ApprovedFeedSnapshot approvedFeed;
+
+	@Autowired
+	@Qualifier("primaryDataSource")
+	private DataSource primaryDataSource;
+
+	@Autowired
+	@Qualifier("replicaDataSource")
+	private DataSource replicaDataSource;
+
+	private JdbcTemplate primary;
+	private JdbcTemplate replica;
+	private final List<Long> savedUsers = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() throws InterruptedException {
+		Flyway.configure().dataSource(replicaDataSource).load().migrate();
+		primary = new JdbcTemplate(primaryDataSource);
+		replica = new JdbcTemplate(replicaDataSource);
+		replica.update("DELETE FROM items");
+		replica.update("DELETE FROM users");
+		// Let any write from a previous test age out of the lag window
+		while (lagGuard.replicaMayBeStale()) {
+			Thread.sleep(50);
+		}
+	}
+
+	// The primary is the database every other test class shares
+	@AfterEach
+	void signOutAndCleanUp() {
+		SecurityContextHolder.clearContext();
+		for (Long userId : savedUsers) {
+			primary.update("DELETE FROM items WHERE posted_by = ?", userId);
+			primary.update("DELETE FROM users WHERE id = ?", userId);
+		}
+	}
+
+	@Test
+	void readOnlyServiceMethodsUseTheReplica() {
+		replica.update("INSERT INTO users (id, name, email, role) VALUES (900, 'Replica', 'replica@kiit.ac.in', 'USER')");
+		replica.update("INSERT INTO items (title, approved, status, category, location, posted_by, created_at, updated_at) " +
+				"VALUES ('only on replica', false, 'LOST', 'misc', 'Campus 1', 900, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+
+		assertThat(itemService.getAllItems()).extracting(ItemResponse::getName).containsExactly("only on replica");
+	}
+
+	@Test
+	void writesGoToThePrimaryAndReadYourWritesStaysThere() throws InterruptedException {
+		User owner = saveUser("writer@kiit.ac.in");
+		signIn(owner);
+		ItemResponse created = itemService.createItem(request("written to primary"), owner);
+
+		assertThat(primary.queryForObject("SELECT COUNT(*) FROM items WHERE id = ?", Integer.class, created.getId())).isEqualTo(1);
+		assertThat(replica.queryForObject("SELECT COUNT(*) FROM items", Integer.class)).isZero();
+
+		// Within max-lag the lagging replica is bypassed, so the new item is visible
+		List<ItemResponse> fresh = itemService.getItemsByUserId(owner.getId());
+		assertThat(fresh).extracting(ItemResponse::getId).containsExactly(created.getId());
+
+		// Afterwards reads return to the replica, which never received the row here
+		while (lagGuard.replicaMayBeStale()) {
+			Thread.sleep(50);
+		}
+		assertThat(itemService.getItemsByUserId(owner.getId())).isEmpty();
+	}
+
+	@Test
+	void otherUsersKeepReadingTheReplicaButCacheFillsDoNot() {
+		User owner = saveUser("owner@kiit.ac.in");
+		User other = saveUser("other@kiit.ac.in");
+		signIn(owner);
+		ItemResponse created = itemService.createItem(request("written by owner"), owner);
+
+		// Someone else's write does not move this user's reads off the replica
+		signIn(other);
+		assertThat(itemService.getItemsByUserId(owner.getId())).isEmpty();
+
+		// but a read that fills the shared item cache still goes to the primary
+		assertThat(itemService.getItemById(created.getId()).getName()).isEqualTo("written by owner");
+	}
+
+	// The views only see later changes as events, so rows a lagging replica is missing would stay missing
+	@Test
+	void viewRebuildsReadThePrimary() {
+		User owner = saveUser("seeded@kiit.ac.in");
+		primary.update("INSERT INTO items (title, approved, status, category, location, posted_by, created_at, updated_at) " +
+				"VALUES ('committed before boot', true, 'LOST', 'misc', 'Campus 2', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", owner.getId());
+		replica.update("INSERT INTO users (id, name, email, role) VALUES (900, 'Replica', 'replica@kiit.ac.in', 'USER')");
+		replica.update("INSERT INTO items (title, approved, status, category, location, posted_by, created_at, updated_at) " +
+				"VALUES ('only on replica', true, 'LOST', 'misc', 'Campus 1', 900, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+		assertThat(lagGuard.replicaMayBeStale()).isFalse();
+
+		searchIndex.rebuild();
+		approvedFeed.rebuild();
+
+		assertThat(searchIndex.search("committed before boot", 0, 10)).extracting(ItemResponse::getName)
+				.containsExactly("committed before boot");
+		assertThat(searchIndex.search("only on replica", 0, 10)).isEmpty();
+		String feed = new String(approvedFeed.get().getJson(), StandardCharsets.UTF_8);
+		assertThat(feed).contains("committed before boot").doesNotContain("only on replica");
+	}
+
+	private static void signIn(User user) {
+		AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getEmail(), "", user.getRole());
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	private User saveUser(String email) {
+		User user = new User();
+		user.setName("Writer");
+		user.setEmail(email);
+		user.setPassword("unused");
+		user.setRole(Role.USER);
+		user = userRepository.save(user);
+		savedUsers.add(user.getId());
+		return user;
+	}
+
+	private static ItemRequest request(String title) {
+		ItemRequest request = new ItemRequest();
+		request.setTitle(title);
+		request.setDescription("routing test");
+		request.setLocation("Campus 2");
+		request.setCategory("misc");
+		request.setStatus("LOST");
+		return request;
+	}
+}
@@ -0,0 +1,115 @@
+package com.exampleKiitFinder.KittFinder.config;
+
+import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import com.exampleKiitFinder.KittFinder.modell.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The token's claims only select the principal; its role always comes from the users table
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenAuthenticationTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final List<Long> users = new ArrayList<>();
+
+	@AfterEach
+	void deleteUsers() {
+		users.forEach(id -> jdbc.update("DELETE FROM users WHERE id = ?", id));
+	}
+
+	@Test
+	void demotedAdminIsRefusedWithTheOldToken() throws Exception {
+		User admin = user("demoted-admin@kiit.ac.in", Role.ADMIN);
+		String adminToken = token(admin);
+		String otherAdminToken = token(user("other-admin@kiit.ac.in", Role.ADMIN));
+		perform(adminToken, "/api/admin/cache-stats", status().isOk());
+
+		mockMvc.perform(put("/api/admin/users/" + admin.getId() + "/role?role=USER")
+						.header("Authorization", "Bearer " + otherAdminToken))
+				.andExpect(status().isOk());
+
+		// The token still says ADMIN
+		perform(adminToken, "/api/admin/cache-stats", status().isForbidden());
+		perform(adminToken, "/api/items/facets", status().isOk());
+	}
+
+	@Test
+	void deletedUserIsUnauthorized() throws Exception {
+		User user = user("deleted-user@kiit.ac.in", Role.USER);
+		String token = token(user);
+		perform(token, "/api/items/facets", status().isOk());
+
+		mockMvc.perform(delete("/api/admin/users/" + user.getId())
+						.header("Authorization", "Bearer " + token(user("deleting-admin@kiit.ac.in", Role.ADMIN))))
+				.andExpect(status().isOk());
+
+		perform(token, "/api/items/facets", status().isUnauthorized());
+	}
+
+	@Test
+	void cachedPrincipalNeedsNoQuery() throws Exception {
+		String token = token(user("cached-user@kiit.ac.in", Role.USER));
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		long before = statistics.getPrepareStatementCount();
+		perform(token, "/api/items/facets", status().isOk());
+		assertThat(statistics.getPrepareStatementCount() - before).as("first request loads the user").isEqualTo(1);
+
+		before = statistics.getPrepareStatementCount();
+		perform(token, "/api/items/facets", status().isOk());
+		assertThat(statistics.getPrepareStatementCount() - before).as("second request").isZero();
+	}
+
+	private void perform(String token, String url, ResultMatcher expected) throws Exception {
+		mockMvc.perform(get(url).header("Authorization", "Bearer " + token)).andExpect(expected);
+	}
+
+	private User user(String email, Role role) {
+		User user = new User();
+		user.setName("Token test");
+		user.setEmail(email);
+		user.setPassword("unused");
+		user.setRole(role);
+		user = userRepository.save(user);
+		users.add(user.getId());
+		return user;
+	}
+
+	private String token(User user) {
+		return jwtUtil.generateToken(user.getEmail(), user.getId(), user.getRole());
+	}
+}
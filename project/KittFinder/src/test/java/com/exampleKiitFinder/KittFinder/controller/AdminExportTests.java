@@ -0,0 +1,132 @@
+package com.exampleKiitFinder.KittFinder.controller;
+
+import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.config.JwtUtil;
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import com.exampleKiitFinder.KittFinder.modell.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminExportTests {
+
+	private static final int ITEMS = 50_000;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private User admin;
+	private String token;
+
+	@BeforeEach
+	void createAdmin() {
+		User user = new User();
+		user.setName("Export Admin");
+		user.setEmail("export-admin@kiit.ac.in");
+		user.setPassword("secret-hash");
+		user.setRole(Role.ADMIN);
+		admin = userRepository.save(user);
+		token = jwtUtil.generateToken(admin.getEmail(), admin.getId(), Role.ADMIN);
+	}
+
+	@AfterEach
+	void deleteAdmin() {
+		jdbc.update("DELETE FROM items WHERE posted_by = ?", admin.getId());
+		jdbc.update("DELETE FROM users WHERE id = ?", admin.getId());
+	}
+
+	@Test
+	void largeCsvExportStreamsEveryRow() throws Exception {
+		List<Object[]> rows = new ArrayList<>(ITEMS);
+		for (int i = 0; i < ITEMS; i++) {
+			rows.add(new Object[]{"export item " + i, admin.getId()});
+		}
+		jdbc.batchUpdate("INSERT INTO items (title, approved, status, category, location, posted_by, created_at) " +
+				"VALUES (?, TRUE, 'FOUND', 'Keys', 'Campus 3', ?, CURRENT_TIMESTAMP)", rows);
+		long total = jdbc.queryForObject("SELECT COUNT(*) FROM items", Long.class);
+
+		MockHttpServletResponse response = export("/api/admin/export/items?format=csv");
+
+		assertThat(response.getContentType()).startsWith("text/csv");
+		assertThat(response.getHeader("Content-Disposition")).contains("attachment").contains(".csv");
+		String[] lines = response.getContentAsString().split("\r\n");
+		assertThat(lines).hasSize((int) total + 1);
+		assertThat(lines[0]).startsWith("id,title,description,location,locationCode");
+		assertThat(response.getContentAsString()).contains(",export item 49999,");
+	}
+
+	@Test
+	void csvQuotesAndNdjsonCarryTheSameRow() throws Exception {
+		jdbc.update("INSERT INTO items (title, description, approved, status, category, posted_by, created_at) " +
+				"VALUES ('Bag, \"blue\"', 'line one\nline two', FALSE, 'LOST', 'Bags', ?, CURRENT_TIMESTAMP)", admin.getId());
+
+		String csv = export("/api/admin/export/items?format=csv").getContentAsString();
+		assertThat(csv).contains(",\"Bag, \"\"blue\"\"\",\"line one\nline two\",");
+
+		String ndjson = export("/api/admin/export/items?format=ndjson").getContentAsString();
+		JsonNode row = null;
+		for (String line : ndjson.split("\n")) {
+			JsonNode node = objectMapper.readTree(line);
+			if ("Bag, \"blue\"".equals(node.get("title").asText())) {
+				row = node;
+			}
+		}
+		assertThat(row).isNotNull();
+		assertThat(row.get("description").asText()).isEqualTo("line one\nline two");
+		assertThat(row.get("postedById").asLong()).isEqualTo(admin.getId());
+	}
+
+	@Test
+	void userExportLeavesOutPasswords() throws Exception {
+		String ndjson = export("/api/admin/export/users?format=ndjson").getContentAsString();
+		assertThat(ndjson).contains("export-admin@kiit.ac.in").doesNotContain("secret-hash").doesNotContain("password");
+	}
+
+	@Test
+	void unknownFormatIsBadRequest() throws Exception {
+		mockMvc.perform(get("/api/admin/export/items?format=xml").header("Authorization", "Bearer " + token))
+				.andExpect(status().isBadRequest());
+	}
+
+	// The body is a StreamingResponseBody, written on an async thread
+	private MockHttpServletResponse export(String url) throws Exception {
+		MvcResult started = mockMvc.perform(get(url).header("Authorization", "Bearer " + token))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andReturn().getResponse();
+	}
+}
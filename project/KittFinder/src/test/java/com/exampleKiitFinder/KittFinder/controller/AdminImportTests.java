@@ -0,0 +1,169 @@
+package com.exampleKiitFinder.KittFinder.controller;
+
+import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.config.JwtUtil;
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import com.exampleKiitFinder.KittFinder.modell.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminImportTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private User admin;
+	private String token;
+
+	@BeforeEach
+	void createAdmin() {
+		User user = new User();
+		user.setName("Import Admin");
+		user.setEmail("import-admin@kiit.ac.in");
+		user.setPassword("unused");
+		user.setRole(Role.ADMIN);
+		admin = userRepository.save(user);
+		token = jwtUtil.generateToken(admin.getEmail(), admin.getId(), Role.ADMIN);
+	}
+
+	@AfterEach
+	void deleteAdmin() {
+		jdbc.update("DELETE FROM items WHERE posted_by = ?", admin.getId());
+		jdbc.update("DELETE FROM users WHERE id = ?", admin.getId());
+	}
+
+	@Test
+	void csvRowsAreImportedAndInvalidOnesReported() throws Exception {
+		String csv = "\uFEFFTitle,description,reward,approved\r\n" +
+				"Umbrella,\"folding, blue\",,true\r\n" +
+				"\"Notebook \"\"A5\"\"\",\"line one\nline two\",5,false\r\n" +
+				",no title,,\r\n" +
+				"Bottle,steel,lots,\r\n" +
+				"Keys,too,many,fields,here\r\n" +
+				"Scarf,wool,-1,\r\n" +
+				"Charger,\"never closed\n";
+
+		JsonNode result = importItems("csv", csv);
+
+		assertThat(result.get("imported").asLong()).isEqualTo(2);
+		assertThat(result.get("failed").asLong()).isEqualTo(5);
+		assertThat(result.get("errorsTruncated").asBoolean()).isFalse();
+		// Row numbers are physical lines, so the quoted line break moves every later row down by one
+		assertThat(errors(result)).containsExactly(
+				"5: title is required",
+				"6: reward is not a number: lots",
+				"7: Expected 4 fields but found 5",
+				"8: reward must not be negative",
+				"9: Unterminated quoted field");
+
+		Map<String, Object> notebook = jdbc.queryForMap(
+				"SELECT description, reward, approved FROM items WHERE posted_by = ? AND title = 'Notebook \"A5\"'", admin.getId());
+		assertThat(notebook.get("description")).isEqualTo("line one\nline two");
+		assertThat(((Number) notebook.get("reward")).doubleValue()).isEqualTo(5.0);
+		assertThat(notebook.get("approved")).isEqualTo(false);
+		assertThat(jdbc.queryForObject("SELECT description FROM items WHERE posted_by = ? AND title = 'Umbrella'",
+				String.class, admin.getId())).isEqualTo("folding, blue");
+	}
+
+	@Test
+	void ndjsonRowsAreImportedAndInvalidOnesReported() throws Exception {
+		String ndjson = "{\"title\":\"Charger\",\"category\":\"Electronics\",\"status\":\"FOUND\",\"createdAt\":\"2024-03-04T10:00:00\"}\n" +
+				"\n" +
+				"{\"title\":\"Charger\"\n" +
+				"[1,2]\n" +
+				"{\"title\":\"Card\",\"createdAt\":\"yesterday\"}\n" +
+				"{\"TITLE\":\"Id card\",\"description\":null,\"approved\":\"maybe\"}\n" +
+				"{\"title\":\"Id card\",\"approved\":true}\n";
+
+		JsonNode result = importItems("ndjson", ndjson);
+
+		assertThat(result.get("imported").asLong()).isEqualTo(2);
+		assertThat(result.get("failed").asLong()).isEqualTo(4);
+		List<String> errors = errors(result);
+		assertThat(errors).hasSize(4);
+		assertThat(errors.get(0)).startsWith("3: Invalid JSON");
+		assertThat(errors.subList(1, 4)).containsExactly(
+				"4: Expected a JSON object",
+				"5: Invalid createdat: yesterday",
+				"6: approved must be true or false: maybe");
+
+		Map<String, Object> charger = jdbc.queryForMap(
+				"SELECT category, status, created_at FROM items WHERE posted_by = ? AND title = 'Charger'", admin.getId());
+		assertThat(charger.get("category")).isEqualTo("Electronics");
+		assertThat(charger.get("status")).isEqualTo("FOUND");
+		assertThat(charger.get("created_at").toString()).startsWith("2024-03-04 10:00:00");
+	}
+
+	@Test
+	void aBatchTheDatabaseRejectsIsRetriedRowByRow() throws Exception {
+		// Passes the import's own validation, fails only in the database
+		jdbc.execute("ALTER TABLE items ADD CONSTRAINT import_test_rejected CHECK (title <> 'Rejected by database')");
+		try {
+			String ndjson = "{\"title\":\"Batch one\"}\n" +
+					"{\"title\":\"Batch two\"}\n" +
+					"{\"title\":\"Rejected by database\"}\n" +
+					"{\"title\":\"Batch four\"}\n";
+
+			JsonNode result = importItems("ndjson", ndjson);
+
+			assertThat(result.get("imported").asLong()).isEqualTo(3);
+			assertThat(result.get("failed").asLong()).isEqualTo(1);
+			assertThat(result.get("errors")).hasSize(1);
+			assertThat(result.get("errors").get(0).get("row").asLong()).isEqualTo(3);
+			assertThat(result.get("errors").get(0).get("message").asText()).containsIgnoringCase("import_test_rejected");
+			assertThat(jdbc.queryForList("SELECT title FROM items WHERE posted_by = ? ORDER BY title", String.class, admin.getId()))
+					.containsExactly("Batch four", "Batch one", "Batch two");
+		} finally {
+			jdbc.execute("ALTER TABLE items DROP CONSTRAINT import_test_rejected");
+		}
+	}
+
+	private JsonNode importItems(String format, String body) throws Exception {
+		String response = mockMvc.perform(post("/api/admin/import/items?format=" + format)
+						.header("Authorization", "Bearer " + token)
+						.contentType("text/plain")
+						.content(body.getBytes(StandardCharsets.UTF_8)))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(response);
+	}
+
+	private static List<String> errors(JsonNode result) {
+		List<String> errors = new ArrayList<>();
+		for (JsonNode error : result.get("errors")) {
+			errors.add(error.get("row").asLong() + ": " + error.get("message").asText());
+		}
+		return errors;
+	}
+}
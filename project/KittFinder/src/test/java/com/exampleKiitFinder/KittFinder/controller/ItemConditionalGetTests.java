@@ -0,0 +1,134 @@
+package com.exampleKiitFinder.KittFinder.controller;
+
+import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.config.JwtUtil;
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import com.exampleKiitFinder.KittFinder.modell.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemConditionalGetTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private User owner;
+	private String token;
+
+	@BeforeEach
+	void createOwner() {
+		User user = new User();
+		user.setName("Etag Owner");
+		user.setEmail("etag-owner@kiit.ac.in");
+		user.setPassword("unused");
+		user.setRole(Role.USER);
+		owner = userRepository.save(user);
+		token = jwtUtil.generateToken(owner.getEmail(), owner.getId(), Role.USER);
+	}
+
+	@AfterEach
+	void deleteOwner() {
+		jdbc.update("DELETE FROM items WHERE posted_by = ?", owner.getId());
+		jdbc.update("DELETE FROM users WHERE id = ?", owner.getId());
+	}
+
+	@Test
+	void itemDetailIsRevalidatedWithItsEtagAndLastModified() throws Exception {
+		long id = createItem("Red umbrella");
+		MockHttpServletResponse first = conditionalGet("/api/items/" + id, null).andExpect(status().isOk()).andReturn().getResponse();
+		String etag = first.getHeader(HttpHeaders.ETAG);
+		String lastModified = first.getHeader(HttpHeaders.LAST_MODIFIED);
+		assertThat(etag).startsWith("\"item-" + id + "-");
+		assertThat(lastModified).isNotNull();
+		assertThat(first.getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache");
+
+		conditionalGet("/api/items/" + id, etag)
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+		mockMvc.perform(get("/api/items/" + id)
+						.header("Authorization", "Bearer " + token)
+						.header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+				.andExpect(status().isNotModified());
+
+		mockMvc.perform(put("/api/items/" + id)
+						.header("Authorization", "Bearer " + token)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(body("Red umbrella, folded")))
+				.andExpect(status().isOk());
+
+		String changed = conditionalGet("/api/items/" + id, etag)
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(changed).isNotEqualTo(etag);
+	}
+
+	@Test
+	void itemListEtagCoversTheQueryAndEveryWrite() throws Exception {
+		createItem("Grey hoodie");
+		String etag = conditionalGet("/api/items?size=5", null)
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		conditionalGet("/api/items?size=5", etag).andExpect(status().isNotModified());
+		// Same data, different page size: a different representation
+		conditionalGet("/api/items?size=6", etag).andExpect(status().isOk());
+
+		createItem("Grey cap");
+		conditionalGet("/api/items?size=5", etag).andExpect(status().isOk());
+	}
+
+	private ResultActions conditionalGet(String url, String ifNoneMatch) throws Exception {
+		MockHttpServletRequestBuilder request = get(url).header("Authorization", "Bearer " + token);
+		if (ifNoneMatch != null) {
+			request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		}
+		return mockMvc.perform(request);
+	}
+
+	private long createItem(String title) throws Exception {
+		String response = mockMvc.perform(post("/api/items")
+						.header("Authorization", "Bearer " + token)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(body(title)))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(response).get("id").asLong();
+	}
+
+	private static String body(String title) {
+		return "{\"title\":\"" + title + "\",\"location\":\"Library\",\"category\":\"Clothing\",\"status\":\"FOUND\"}";
+	}
+}
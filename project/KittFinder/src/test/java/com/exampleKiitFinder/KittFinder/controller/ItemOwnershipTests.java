@@ -0,0 +1,135 @@
+package com.exampleKiitFinder.KittFinder.controller;
+
+import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.config.JwtUtil;
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import com.exampleKiitFinder.KittFinder.modell.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The current user comes from the request's principal, and item ownership is checked by the write itself
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemOwnershipTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final List<Long> users = new ArrayList<>();
+	private Statistics statistics;
+
+	@BeforeEach
+	void statistics() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@AfterEach
+	void deleteUsers() {
+		users.forEach(id -> {
+			jdbc.update("DELETE FROM items WHERE posted_by = ?", id);
+			jdbc.update("DELETE FROM users WHERE id = ?", id);
+		});
+	}
+
+	@Test
+	void onlyTheOwnerOrAnAdminCanDeleteAnItem() throws Exception {
+		String ownerToken = token(user("owner@kiit.ac.in", Role.USER));
+		String otherToken = token(user("not-owner@kiit.ac.in", Role.USER));
+		String adminToken = token(user("owner-admin@kiit.ac.in", Role.ADMIN));
+		long first = createItem(ownerToken, "Lost umbrella");
+		long second = createItem(ownerToken, "Lost scarf");
+
+		mockMvc.perform(delete("/api/items/" + first).header("Authorization", "Bearer " + otherToken))
+				.andExpect(status().isForbidden());
+		assertThat(itemExists(first)).isTrue();
+
+		// The owner's principal is cached by now, so the conditional DELETE is the only statement
+		long before = statistics.getPrepareStatementCount();
+		mockMvc.perform(delete("/api/items/" + first).header("Authorization", "Bearer " + ownerToken))
+				.andExpect(status().isOk());
+		assertThat(statistics.getPrepareStatementCount() - before).isEqualTo(1);
+		assertThat(itemExists(first)).isFalse();
+
+		mockMvc.perform(delete("/api/items/" + second).header("Authorization", "Bearer " + adminToken))
+				.andExpect(status().isOk());
+		assertThat(itemExists(second)).isFalse();
+	}
+
+	@Test
+	void theCurrentUserIsLoadedOncePerRequest() throws Exception {
+		String token = token(user("profile@kiit.ac.in", Role.USER));
+		mockMvc.perform(get("/api/items/facets").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+
+		long before = statistics.getPrepareStatementCount();
+		mockMvc.perform(get("/api/users/profile").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.email").value("profile@kiit.ac.in"));
+		assertThat(statistics.getPrepareStatementCount() - before).isEqualTo(1);
+	}
+
+	private long createItem(String token, String title) throws Exception {
+		String response = mockMvc.perform(post("/api/items")
+						.header("Authorization", "Bearer " + token)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"title\":\"" + title + "\",\"location\":\"Library\",\"category\":\"Bags\",\"status\":\"LOST\"}"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(response).get("id").asLong();
+	}
+
+	private boolean itemExists(long id) {
+		return jdbc.queryForObject("SELECT COUNT(*) FROM items WHERE id = ?", Long.class, id) > 0;
+	}
+
+	private User user(String email, Role role) {
+		User user = new User();
+		user.setName("Ownership test");
+		user.setEmail(email);
+		user.setPassword("unused");
+		user.setRole(role);
+		user = userRepository.save(user);
+		users.add(user.getId());
+		return user;
+	}
+
+	private String token(User user) {
+		return jwtUtil.generateToken(user.getEmail(), user.getId(), user.getRole());
+	}
+}
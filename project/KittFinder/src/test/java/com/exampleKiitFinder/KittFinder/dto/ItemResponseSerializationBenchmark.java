@@ -0,0 +1,42 @@
+package com.exampleKiitFinder.KittFinder.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemResponseSerializationBenchmark {
+
+	@Param({"10", "100", "1000"})
+	private int listSize;
+
+	private ObjectWriter writer;
+	private List<ItemResponse> items;
+
+	@Setup
+	public void setUp() {
+		writer = new ObjectMapper().writer();
+		items = new ArrayList<>(listSize);
+		for (int i = 0; i < listSize; i++) {
+			LocalDateTime now = LocalDateTime.now();
+			items.add(new ItemResponse((long) i, "Item " + i, "Description of item " + i, "Campus " + (i % 25),
+					"Electronics", i % 2 == 0 ? "LOST" : "FOUND", true, null, now, now, 100.0, "Owner", 1L));
+		}
+	}
+
+	@Benchmark
+	public byte[] serializeList() throws JsonProcessingException {
+		return writer.writeValueAsBytes(items);
+	}
+}
@@ -0,0 +1,123 @@
+package com.exampleKiitFinder.KittFinder.load;
+
+import com.exampleKiitFinder.KittFinder.KittFinderApplication;
+import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.config.JwtUtil;
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import com.exampleKiitFinder.KittFinder.modell.User;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Times POST /api/admin/import/items for the same rows as CSV and as NDJSON, once per import batch size.
+// The app is booted fresh for every batch size and the imported rows are deleted afterwards, so each run
+// imports into the same table. The time includes the one rebuild of the in-memory views after the import,
+// which with many rows sharing a location token is dominated by ItemMatchIndex scoring. Run it with:
+//   mvn -Pload test -Dload.driver=ImportLoadDriver -Dload.rows=100000 -Dload.batchSizes=100,1000,5000
+// H2 by default; for MySQL numbers pass its URL in -Dload.args and add rewriteBatchedStatements=true to it,
+// otherwise the driver sends a JDBC batch as one statement per row.
+public class ImportLoadDriver {
+	private static final int ROWS = Integer.getInteger("load.rows", 100_000);
+	private static final String BATCH_SIZES = System.getProperty("load.batchSizes", "100,1000,5000");
+	private static final String[] STATUSES = {"LOST", "FOUND"};
+	private static final String[] CATEGORIES = {"Electronics", "Bags", "Books", "Keys", "Wallets", "Clothing"};
+
+	public static void main(String[] args) throws Exception {
+		Path csv = Files.createTempFile("kittfinder-import", ".csv");
+		Path ndjson = Files.createTempFile("kittfinder-import", ".ndjson");
+		try {
+			writeRows(csv, ndjson);
+			System.out.printf("rows=%d csv=%dKB ndjson=%dKB cores=%d%n", ROWS,
+					Files.size(csv) / 1024, Files.size(ndjson) / 1024, Runtime.getRuntime().availableProcessors());
+			for (String batchSize : BATCH_SIZES.split(",")) {
+				run(batchSize.trim(), args, csv, ndjson);
+			}
+		} finally {
+			Files.deleteIfExists(csv);
+			Files.deleteIfExists(ndjson);
+		}
+	}
+
+	private static void run(String batchSize, String[] args, Path csv, Path ndjson) throws Exception {
+		List<String> appArgs = new ArrayList<>(List.of(
+				"--server.port=0",
+				"--spring.jpa.show-sql=false",
+				"--kittfinder.import.batch-size=" + batchSize));
+		appArgs.addAll(Arrays.asList(args));
+
+		ConfigurableApplicationContext context = SpringApplication.run(KittFinderApplication.class, appArgs.toArray(new String[0]));
+		try {
+			LoadClient client = new LoadClient(Integer.parseInt(context.getEnvironment().getProperty("local.server.port")));
+			User admin = admin(context, client);
+			String token = context.getBean(JwtUtil.class).generateToken(admin.getEmail(), admin.getId(), Role.ADMIN);
+			JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+			try {
+				time(client, token, "batch=" + batchSize + " csv", "csv", "text/csv", csv);
+				jdbc.update("DELETE FROM items WHERE posted_by = ?", admin.getId());
+				time(client, token, "batch=" + batchSize + " ndjson", "ndjson", "application/x-ndjson", ndjson);
+			} finally {
+				jdbc.update("DELETE FROM items WHERE posted_by = ?", admin.getId());
+			}
+		} finally {
+			context.close();
+		}
+	}
+
+	// Registration only creates users, so promote the new account directly
+	private static User admin(ConfigurableApplicationContext context, LoadClient client) {
+		String email = "import-" + System.nanoTime() + "@kiit.ac.in";
+		client.register(email);
+		UserRepository users = context.getBean(UserRepository.class);
+		User admin = users.findByEmail(email).orElseThrow();
+		admin.setRole(Role.ADMIN);
+		return users.save(admin);
+	}
+
+	private static void time(LoadClient client, String token, String label, String format, String contentType,
+							 Path file) throws IOException {
+		long start = System.nanoTime();
+		HttpResponse<String> response = client.send(client.upload("/api/admin/import/items?format=" + format,
+				token, contentType, file));
+		double seconds = (System.nanoTime() - start) / 1e9;
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException(label + " failed: " + response.statusCode() + " " + response.body());
+		}
+		// The summary's counts come first; the error list is empty for these rows
+		String summary = response.body().length() > 120 ? response.body().substring(0, 120) : response.body();
+		System.out.printf("%-20s seconds=%.2f rows/s=%.0f %s%n", label, seconds, ROWS / seconds, summary);
+	}
+
+	// Same rows in both files; every tenth has a quoted description with a comma and a line break
+	private static void writeRows(Path csv, Path ndjson) throws IOException {
+		try (BufferedWriter csvOut = Files.newBufferedWriter(csv, StandardCharsets.UTF_8);
+			 BufferedWriter jsonOut = Files.newBufferedWriter(ndjson, StandardCharsets.UTF_8)) {
+			csvOut.write("title,description,location,category,status,reward,approved,createdAt\r\n");
+			for (int i = 0; i < ROWS; i++) {
+				String title = "Imported item " + i;
+				String description = i % 10 == 0 ? "found near the gate, bag\nmarked " + i : "load test row " + i;
+				String location = "Campus " + (i % 25);
+				String category = CATEGORIES[i % CATEGORIES.length];
+				String status = STATUSES[i % STATUSES.length];
+				int reward = i % 50;
+				boolean approved = i % 3 != 0;
+				String createdAt = String.format("2024-%02d-%02dT10:00:00", i % 12 + 1, i % 28 + 1);
+
+				csvOut.write(title + ",\"" + description + "\"," + location + "," + category + "," + status + ","
+						+ reward + "," + approved + "," + createdAt + "\r\n");
+				jsonOut.write("{\"title\":\"" + title + "\",\"description\":\"" + description.replace("\n", "\\n")
+						+ "\",\"location\":\"" + location + "\",\"category\":\"" + category + "\",\"status\":\"" + status
+						+ "\",\"reward\":" + reward + ",\"approved\":" + approved + ",\"createdAt\":\"" + createdAt + "\"}\n");
+			}
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.exampleKiitFinder.KittFinder.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// HTTP helpers and latency bookkeeping shared by the load drivers in this package
+class LoadClient {
+	private static final Pattern TOKEN = Pattern.compile("\"token\":\"([^\"]+)\"");
+	private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+	private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+	private final String baseUrl;
+
+	LoadClient(int port) {
+		this.baseUrl = "http://localhost:" + port;
+	}
+
+	String register(String email) {
+		String body = send(post("/api/auth/register", null,
+				"{\"name\":\"Load\",\"email\":\"" + email + "\",\"password\":\"password\"}")).body();
+		return match(TOKEN, body);
+	}
+
+	List<Long> createItems(String token, int count) {
+		List<Long> itemIds = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			String body = send(post("/api/items", token, "{\"title\":\"Item " + i + "\",\"description\":\"load test\","
+					+ "\"location\":\"Campus " + (i % 25) + "\",\"category\":\"misc\",\"status\":\"LOST\"}")).body();
+			itemIds.add(Long.parseLong(match(ID, body)));
+		}
+		return itemIds;
+	}
+
+	HttpRequest get(String path, String token) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.header("Authorization", "Bearer " + token)
+				.GET()
+				.build();
+	}
+
+	HttpRequest post(String path, String token, String json) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json));
+		if (token != null) {
+			builder.header("Authorization", "Bearer " + token);
+		}
+		return builder.build();
+	}
+
+	HttpRequest upload(String path, String token, String contentType, Path file) throws IOException {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.header("Authorization", "Bearer " + token)
+				.header("Content-Type", contentType)
+				.POST(HttpRequest.BodyPublishers.ofFile(file))
+				.build();
+	}
+
+	HttpResponse<String> send(HttpRequest request) {
+		try {
+			return client.send(request, HttpResponse.BodyHandlers.ofString());
+		} catch (Exception e) {
+			throw new IllegalStateException("Request to " + request.uri() + " failed", e);
+		}
+	}
+
+	static Thread start(Runnable task) {
+		Thread thread = new Thread(task);
+		thread.start();
+		return thread;
+	}
+
+	// Each sample array holds its count at index 0 followed by latencies in nanoseconds
+	static void report(String label, List<long[]> samples, int seconds) {
+		int total = 0;
+		for (long[] latencies : samples) {
+			total += (int) latencies[0];
+		}
+		long[] all = new long[total];
+		int offset = 0;
+		for (long[] latencies : samples) {
+			System.arraycopy(latencies, 1, all, offset, (int) latencies[0]);
+			offset += (int) latencies[0];
+		}
+		Arrays.sort(all);
+		System.out.printf("%-20s requests=%d rps=%.0f p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n",
+				label, total, (double) total / seconds, percentile(all, 0.50), percentile(all, 0.99),
+				percentile(all, 0.999), all.length > 0 ? all[all.length - 1] / 1e6 : 0.0);
+	}
+
+	private static double percentile(long[] sorted, double p) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)] / 1e6;
+	}
+
+	private static String match(Pattern pattern, String body) {
+		Matcher matcher = pattern.matcher(body);
+		if (!matcher.find()) {
+			throw new IllegalStateException("Unexpected response: " + body);
+		}
+		return matcher.group(1);
+	}
+}
@@ -0,0 +1,107 @@
+package com.exampleKiitFinder.KittFinder.load;
+
+import com.exampleKiitFinder.KittFinder.KittFinderApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// Boots the app on a random port (H2, test properties) and measures item read latency
+// first alone, then during a login storm. Not a unit test; run it with: mvn -Pload test
+// Extra arguments are passed to the application, e.g. -Dload.args=--kittfinder.auth.hashing-threads=8
+public class LoginStormLoadDriver {
+	private static final int SECONDS = Integer.getInteger("load.seconds", 15);
+	private static final int READERS = Integer.getInteger("load.readers", 8);
+	private static final int LOGIN_CLIENTS = Integer.getInteger("load.loginClients", 64);
+	private static final int ITEMS = 50;
+	private static final int STORM_USERS = 20;
+
+	private final LoadClient client;
+
+	private LoginStormLoadDriver(int port) {
+		this.client = new LoadClient(port);
+	}
+
+	public static void main(String[] args) throws Exception {
+		List<String> appArgs = new ArrayList<>(List.of(
+				"--server.port=0",
+				"--spring.jpa.show-sql=false",
+				// Every storm request comes from 127.0.0.1, so lift the per-IP cap to load the hashing pool itself
+				"--kittfinder.auth.max-concurrent-per-ip=100000"));
+		appArgs.addAll(Arrays.asList(args));
+
+		ConfigurableApplicationContext context = SpringApplication.run(KittFinderApplication.class, appArgs.toArray(new String[0]));
+		try {
+			int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+			new LoginStormLoadDriver(port).run();
+		} finally {
+			context.close();
+		}
+	}
+
+	private void run() throws Exception {
+		String token = client.register("reader@kiit.ac.in");
+		List<Long> itemIds = client.createItems(token, ITEMS);
+		for (int i = 0; i < STORM_USERS; i++) {
+			client.register("storm" + i + "@kiit.ac.in");
+		}
+
+		System.out.printf("readers=%d loginClients=%d seconds=%d cores=%d%n",
+				READERS, LOGIN_CLIENTS, SECONDS, Runtime.getRuntime().availableProcessors());
+		measureReads(token, itemIds, false);
+		measureReads(token, itemIds, true);
+	}
+
+	private void measureReads(String token, List<Long> itemIds, boolean storm) throws InterruptedException {
+		AtomicBoolean running = new AtomicBoolean(true);
+		List<long[]> samples = new ArrayList<>();
+		Map<Integer, LongAdder> loginStatuses = new ConcurrentHashMap<>();
+		List<Thread> threads = new ArrayList<>();
+
+		for (int r = 0; r < READERS; r++) {
+			long[] latencies = new long[1 << 18];
+			samples.add(latencies);
+			threads.add(LoadClient.start(() -> {
+				int n = 0;
+				while (running.get() && n < latencies.length - 1) {
+					long id = itemIds.get(ThreadLocalRandom.current().nextInt(itemIds.size()));
+					String path = n % 2 == 0 ? "/api/items/" + id : "/api/items?size=20";
+					long start = System.nanoTime();
+					client.send(client.get(path, token));
+					latencies[++n] = System.nanoTime() - start;
+				}
+				latencies[0] = n;
+			}));
+		}
+		if (storm) {
+			for (int c = 0; c < LOGIN_CLIENTS; c++) {
+				threads.add(LoadClient.start(() -> {
+					while (running.get()) {
+						String email = "storm" + ThreadLocalRandom.current().nextInt(STORM_USERS) + "@kiit.ac.in";
+						int status = client.send(client.post("/api/auth/login", null,
+								"{\"email\":\"" + email + "\",\"password\":\"password\"}")).statusCode();
+						loginStatuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+					}
+				}));
+			}
+		}
+
+		Thread.sleep(SECONDS * 1000L);
+		running.set(false);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		LoadClient.report(storm ? "reads, login storm" : "reads, idle", samples, SECONDS);
+		if (storm) {
+			System.out.printf("%-20s logins by status %s%n", "", loginStatuses);
+		}
+	}
+}
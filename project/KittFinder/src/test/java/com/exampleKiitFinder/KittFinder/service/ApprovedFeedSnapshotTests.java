@@ -0,0 +1,113 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.dto.BulkModerationResult;
+import com.exampleKiitFinder.KittFinder.dto.ModerationAction;
+import com.exampleKiitFinder.KittFinder.dto.UpdateItemStatusDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ApprovedFeedSnapshotTests {
+
+	private static final int ITEMS = 5000;
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private ApprovedFeedSnapshot feed;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${kittfinder.feed.size:100}")
+	private int feedSize;
+
+	private List<Long> ids;
+
+	@BeforeEach
+	void insertUnapprovedItems() {
+		jdbc.update("INSERT INTO users (name, email, role) VALUES ('Feed', 'feed@kiit.ac.in', 'USER')");
+		Long owner = jdbc.queryForObject("SELECT id FROM users WHERE email = 'feed@kiit.ac.in'", Long.class);
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 0; i < ITEMS; i++) {
+			rows.add(new Object[]{"feed item " + i, owner});
+		}
+		jdbc.batchUpdate("INSERT INTO items (title, approved, status, category, posted_by, created_at, updated_at) " +
+				"VALUES (?, FALSE, 'LOST', 'Keys', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", rows);
+		ids = jdbc.queryForList("SELECT id FROM items WHERE posted_by = ? ORDER BY id", Long.class, owner);
+	}
+
+	@AfterEach
+	void deleteItems() {
+		itemService.moderateItems(operations(ModerationAction.DELETE));
+		jdbc.update("DELETE FROM users WHERE email = 'feed@kiit.ac.in'");
+	}
+
+	@Test
+	void bulkApprovalSwapsTheSnapshotOnceAndKeepsOnlyTheNewestItems() throws Exception {
+		ApprovedFeedSnapshot.Snapshot before = feed.get();
+
+		List<BulkModerationResult> results = itemService.moderateItems(operations(ModerationAction.APPROVE));
+
+		assertThat(results).hasSize(ITEMS).allMatch(BulkModerationResult::isSuccess);
+		ApprovedFeedSnapshot.Snapshot after = feed.get();
+		assertThat(after.size()).isEqualTo(feedSize);
+		assertThat(objectMapper.readTree(after.getJson())).hasSize(feedSize);
+		assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+		// Same created_at for every row, so the highest ids are the newest
+		String json = new String(after.getJson(), StandardCharsets.UTF_8);
+		assertThat(json).contains("\"feed item 4999\"", "\"feed item " + (ITEMS - feedSize) + "\"")
+				.doesNotContain("\"feed item " + (ITEMS - feedSize - 1) + "\"");
+	}
+
+	@Test
+	void removingAnItemFromAFullWindowPullsInTheNextOne() {
+		itemService.moderateItems(operations(ModerationAction.APPROVE));
+
+		itemService.moderateItems(List.of(new UpdateItemStatusDto(ids.get(ITEMS - 1), null, ModerationAction.DELETE)));
+
+		ApprovedFeedSnapshot.Snapshot after = feed.get();
+		assertThat(after.size()).isEqualTo(feedSize);
+		assertThat(new String(after.getJson(), StandardCharsets.UTF_8))
+				.doesNotContain("\"feed item 4999\"")
+				.contains("\"feed item " + (ITEMS - feedSize - 1) + "\"");
+	}
+
+	@Test
+	void bulkDeletionRefillsTheWindowInOneSwap() {
+		ApprovedFeedSnapshot.Snapshot before = feed.get();
+		itemService.moderateItems(operations(ModerationAction.APPROVE));
+		ApprovedFeedSnapshot.Snapshot approved = feed.get();
+
+		itemService.moderateItems(operations(ModerationAction.DELETE));
+
+		ApprovedFeedSnapshot.Snapshot after = feed.get();
+		assertThat(after.size()).isEqualTo(before.size());
+		assertThat(after.getJson()).isEqualTo(before.getJson());
+		assertThat(after.getVersion()).isEqualTo(approved.getVersion() + 1);
+	}
+
+	private List<UpdateItemStatusDto> operations(ModerationAction action) {
+		List<UpdateItemStatusDto> operations = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			operations.add(new UpdateItemStatusDto(id, null, action));
+		}
+		return operations;
+	}
+}
@@ -0,0 +1,142 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Bitmap index vs. the equivalent indexed SQL on an embedded H2 database (MySQL mode, V1-V4 schema).
+// Both sides return ids only, so the numbers compare the filtering itself, not row mapping.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemBitmapIndexBenchmark {
+	private static final String[] STATUSES = {"LOST", "FOUND", "CLAIMED", "RETURNED"};
+	private static final String[] CATEGORIES = {"Electronics", "Bags", "Books", "Keys", "Wallets", "Clothing",
+			"Bottles", "Cards", "Jewellery", "Stationery", "Sports", "Other"};
+	private static final int PAGE = 21;
+
+	private static final String FILTER = "WHERE status IN ('LOST', 'FOUND') AND category = 'Keys' AND approved = TRUE";
+
+	@Param({"10000", "100000"})
+	private int items;
+
+	private final ItemBitmapIndex.Query query =
+			new ItemBitmapIndex.Query(List.of("LOST", "FOUND"), List.of("Keys"), true);
+	private ItemBitmapIndex index;
+	private Connection connection;
+	private PreparedStatement pageStatement;
+	private PreparedStatement countStatement;
+	private long middleId;
+
+	@Setup
+	public void setUp() throws SQLException {
+		String url = "jdbc:h2:mem:bitmap_bench_" + items + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1" +
+				// Otherwise H2 answers a repeated query on an unchanged table from its last result
+				";OPTIMIZE_REUSE_RESULTS=0";
+		Flyway.configure().dataSource(url, "sa", "").load().migrate();
+		connection = DriverManager.getConnection(url, "sa", "");
+		index = new ItemBitmapIndex();
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("INSERT INTO users (name, email, role) VALUES ('Owner', 'owner@kiit.ac.in', 'USER')");
+		}
+		try (PreparedStatement insert = connection.prepareStatement(
+				"INSERT INTO items (id, title, approved, status, category, posted_by, created_at) VALUES (?, ?, ?, ?, ?, 1, CURRENT_TIMESTAMP)")) {
+			for (int i = 1; i <= items; i++) {
+				boolean approved = i % 10 < 7;
+				String status = STATUSES[i % STATUSES.length];
+				String category = CATEGORIES[(i / 7) % CATEGORIES.length];
+				insert.setLong(1, i);
+				insert.setString(2, "Item " + i);
+				insert.setBoolean(3, approved);
+				insert.setString(4, status);
+				insert.setString(5, category);
+				insert.addBatch();
+
+				ItemResponse item = new ItemResponse();
+				item.setId((long) i);
+				item.setApproved(approved);
+				item.setStatus(status);
+				item.setCategory(category);
+				index.index(item);
+				if (i % 1000 == 0) {
+					insert.executeBatch();
+				}
+			}
+			insert.executeBatch();
+		}
+		try (Statement statement = connection.createStatement()) {
+			// The composite index a deployment would add for this filter, so SQL is not measured at its worst
+			statement.execute("CREATE INDEX idx_bench_category_status_approved ON items (category, status, approved, id)");
+			statement.execute("ANALYZE");
+		}
+		pageStatement = connection.prepareStatement("SELECT id FROM items " + FILTER + " AND id < ? ORDER BY id DESC LIMIT " + PAGE);
+		countStatement = connection.prepareStatement("SELECT COUNT(*) FROM items " + FILTER);
+		middleId = items / 2;
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP ALL OBJECTS");
+		}
+		connection.close();
+	}
+
+	@Benchmark
+	public List<Long> bitmapFirstPage() {
+		return index.idsBefore(query, null, PAGE);
+	}
+
+	@Benchmark
+	public List<Long> bitmapPageAfterId() {
+		return index.idsBefore(query, middleId, PAGE);
+	}
+
+	@Benchmark
+	public long bitmapCount() {
+		return index.count(query);
+	}
+
+	@Benchmark
+	public List<Long> sqlFirstPage() throws SQLException {
+		return page(Long.MAX_VALUE);
+	}
+
+	@Benchmark
+	public List<Long> sqlPageAfterId() throws SQLException {
+		return page(middleId);
+	}
+
+	@Benchmark
+	public long sqlCount() throws SQLException {
+		try (ResultSet resultSet = countStatement.executeQuery()) {
+			resultSet.next();
+			return resultSet.getLong(1);
+		}
+	}
+
+	private List<Long> page(long beforeId) throws SQLException {
+		pageStatement.setLong(1, beforeId);
+		List<Long> ids = new ArrayList<>(PAGE);
+		try (ResultSet resultSet = pageStatement.executeQuery()) {
+			while (resultSet.next()) {
+				ids.add(resultSet.getLong(1));
+			}
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,141 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.config.JwtUtil;
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import com.exampleKiitFinder.KittFinder.modell.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Item detail and the status/category lists are read through the cache; every write path evicts what it changed
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemCacheTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private User owner;
+	private String token;
+	// Unique per run, so the category list only ever holds this test's items
+	private final String category = "Cache test " + System.nanoTime();
+
+	@BeforeEach
+	void createOwner() {
+		User user = new User();
+		user.setName("Cache Owner");
+		user.setEmail("cache-owner@kiit.ac.in");
+		user.setPassword("unused");
+		user.setRole(Role.USER);
+		owner = userRepository.save(user);
+		token = jwtUtil.generateToken(owner.getEmail(), owner.getId(), Role.USER);
+	}
+
+	@AfterEach
+	void deleteOwner() {
+		jdbc.update("DELETE FROM items WHERE posted_by = ?", owner.getId());
+		jdbc.update("DELETE FROM users WHERE id = ?", owner.getId());
+	}
+
+	@Test
+	void itemDetailIsServedFromTheCacheUntilTheItemIsUpdated() throws Exception {
+		long id = createItem("Blue bottle", "LOST");
+		mockMvc.perform(get("/api/items/" + id).header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.name").value("Blue bottle"));
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		long before = statistics.getPrepareStatementCount();
+		mockMvc.perform(get("/api/items/" + id).header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+		assertThat(statistics.getPrepareStatementCount() - before).as("cached detail").isZero();
+
+		updateItem(id, "Green bottle", "LOST");
+
+		mockMvc.perform(get("/api/items/" + id).header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.name").value("Green bottle"));
+	}
+
+	@Test
+	void statusAndCategoryListsAreEvictedOnCreateUpdateAndDelete() throws Exception {
+		assertThat(itemService.getItemsByCategory(category)).isEmpty();
+
+		long id = createItem("Black wallet", "LOST");
+		assertThat(itemService.getItemsByCategory(category)).extracting(ItemResponse::getId).containsExactly(id);
+		assertThat(itemService.getItemsByStatus("LOST")).extracting(ItemResponse::getId).contains(id);
+		assertThat(itemService.getItemsByStatus("FOUND")).extracting(ItemResponse::getId).doesNotContain(id);
+
+		// Moves the item from the cached LOST list to the cached FOUND list
+		updateItem(id, "Black wallet", "FOUND");
+		assertThat(itemService.getItemsByStatus("LOST")).extracting(ItemResponse::getId).doesNotContain(id);
+		assertThat(itemService.getItemsByStatus("FOUND")).extracting(ItemResponse::getId).contains(id);
+		assertThat(itemService.getItemsByCategory(category)).extracting(ItemResponse::getStatus).containsExactly("FOUND");
+
+		mockMvc.perform(delete("/api/items/" + id).header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk());
+		assertThat(itemService.getItemsByCategory(category)).isEmpty();
+		assertThat(itemService.getItemsByStatus("FOUND")).extracting(ItemResponse::getId).doesNotContain(id);
+	}
+
+	private long createItem(String title, String itemStatus) throws Exception {
+		String response = mockMvc.perform(post("/api/items")
+						.header("Authorization", "Bearer " + token)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(body(title, itemStatus)))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(response).get("id").asLong();
+	}
+
+	private void updateItem(long id, String title, String itemStatus) throws Exception {
+		mockMvc.perform(put("/api/items/" + id)
+						.header("Authorization", "Bearer " + token)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(body(title, itemStatus)))
+				.andExpect(status().isOk());
+	}
+
+	private String body(String title, String itemStatus) {
+		return "{\"title\":\"" + title + "\",\"location\":\"Library\",\"category\":\"" + category
+				+ "\",\"status\":\"" + itemStatus + "\"}";
+	}
+}
@@ -0,0 +1,37 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ItemCursorTests {
+
+	@Test
+	void roundTripsDatedAndUndatedPositions() {
+		LocalDateTime createdAt = LocalDateTime.of(2024, 3, 4, 10, 15, 30, 123_456_000);
+		ItemCursor dated = ItemCursor.decode(new ItemCursor(createdAt, 42L).encode());
+		assertThat(dated.getCreatedAt()).isEqualTo(createdAt);
+		assertThat(dated.getId()).isEqualTo(42L);
+
+		ItemCursor undated = ItemCursor.decode(new ItemCursor(null, 7L).encode());
+		assertThat(undated.getCreatedAt()).isNull();
+		assertThat(undated.getId()).isEqualTo(7L);
+	}
+
+	@Test
+	void malformedCursorsAreIllegalArguments() {
+		assertThatThrownBy(() -> ItemCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ItemCursor.decode(encode("no separator"))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ItemCursor.decode(encode("null|5"))).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ItemCursor.decode(encode("2024-03-04T10:15|x"))).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
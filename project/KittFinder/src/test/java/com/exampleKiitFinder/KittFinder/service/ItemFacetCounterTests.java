@@ -0,0 +1,118 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.Repo.UserRepository;
+import com.exampleKiitFinder.KittFinder.config.JwtUtil;
+import com.exampleKiitFinder.KittFinder.dto.ItemRequest;
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import com.exampleKiitFinder.KittFinder.dto.ModerationAction;
+import com.exampleKiitFinder.KittFinder.dto.UpdateItemStatusDto;
+import com.exampleKiitFinder.KittFinder.modell.Role;
+import com.exampleKiitFinder.KittFinder.modell.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// After every kind of change the in-memory counters must agree with ?source=database
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemFacetCounterTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private User owner;
+	private String token;
+
+	@BeforeEach
+	void createOwner() {
+		User user = new User();
+		user.setName("Facets");
+		user.setEmail("facets@kiit.ac.in");
+		user.setPassword("unused");
+		user.setRole(Role.USER);
+		owner = userRepository.save(user);
+		token = jwtUtil.generateToken(owner.getEmail(), owner.getId(), Role.USER);
+	}
+
+	@AfterEach
+	void deleteOwner() {
+		jdbc.update("DELETE FROM items WHERE posted_by = ?", owner.getId());
+		jdbc.update("DELETE FROM users WHERE id = ?", owner.getId());
+	}
+
+	@Test
+	void countersMatchTheDatabaseThroughEveryKindOfChange() throws Exception {
+		ItemResponse canteen = itemService.createItem(request("Campus 15 canteen"), owner);
+		ItemResponse unknown = itemService.createItem(request("behind the old hostel"), owner);
+		assertCountersMatchDatabase();
+		assertThat(facets("location=campus-15", "counters").get("total").asLong()).isGreaterThanOrEqualTo(1);
+		assertThat(facets("", "counters").get("location").has("C15")).isTrue();
+
+		itemService.updateItem(canteen.getId(), request("Central Library"), owner.getId(), Role.USER);
+		itemService.updateItem(unknown.getId(), request("KIIT stadium gate 2"), owner.getId(), Role.USER);
+		assertCountersMatchDatabase();
+
+		itemService.moderateItems(List.of(
+				new UpdateItemStatusDto(canteen.getId(), null, ModerationAction.APPROVE),
+				new UpdateItemStatusDto(unknown.getId(), "FOUND", ModerationAction.SET_STATUS)));
+		assertCountersMatchDatabase();
+
+		itemService.deleteItem(canteen.getId(), owner.getId(), Role.USER);
+		assertCountersMatchDatabase();
+	}
+
+	private void assertCountersMatchDatabase() throws Exception {
+		for (String query : List.of("", "location=library", "location=other", "approved=true&status=LOST")) {
+			assertThat(facets(query, "counters")).as(query).isEqualTo(facets(query, "database"));
+		}
+	}
+
+	// Response without the source field, which is the only intended difference
+	private ObjectNode facets(String query, String source) throws Exception {
+		String body = mockMvc.perform(get("/api/items/facets?" + query + "&source=" + source)
+						.header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		ObjectNode facets = (ObjectNode) objectMapper.readTree(body);
+		facets.remove("source");
+		return facets;
+	}
+
+	private static ItemRequest request(String location) {
+		ItemRequest request = new ItemRequest();
+		request.setTitle("Facet item");
+		request.setDescription("facet test");
+		request.setLocation(location);
+		request.setCategory("Bags");
+		request.setStatus("LOST");
+		return request;
+	}
+}
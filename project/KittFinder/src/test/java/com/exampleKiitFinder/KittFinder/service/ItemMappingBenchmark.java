@@ -0,0 +1,47 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import com.exampleKiitFinder.KittFinder.modell.Item;
+import com.exampleKiitFinder.KittFinder.modell.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemMappingBenchmark {
+
+	@Param({"10", "100", "1000"})
+	private int listSize;
+
+	private ItemServiceImpl itemService;
+	private List<Item> items;
+
+	@Setup
+	public void setUp() {
+		itemService = new ItemServiceImpl();
+		User owner = new User(1L, "Owner", "owner@kiit.ac.in", "", null, LocalDateTime.now());
+		items = new ArrayList<>(listSize);
+		for (int i = 0; i < listSize; i++) {
+			LocalDateTime now = LocalDateTime.now();
+			items.add(new Item((long) i, "Item " + i, "Description of item " + i, null, "Campus " + (i % 25),
+					i % 2 == 0 ? "LOST" : "FOUND", true, now, null, 100.0, now, now, "Electronics", owner));
+		}
+	}
+
+	@Benchmark
+	public List<ItemResponse> mapToResponse() {
+		List<ItemResponse> responses = new ArrayList<>(items.size());
+		for (Item item : items) {
+			responses.add(itemService.mapToResponse(item));
+		}
+		return responses;
+	}
+}
@@ -0,0 +1,63 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import com.exampleKiitFinder.KittFinder.dto.ItemMatchResponse;
+import com.exampleKiitFinder.KittFinder.dto.ItemResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Plain unit tests: upsert and matchesFor need no repository
+class ItemMatchIndexTests {
+
+	private static final String MONDAY = "2024-03-04T10:00:00";
+
+	private final ItemMatchIndex index = new ItemMatchIndex();
+
+	@Test
+	void categoryAndDateAloneDoNotMatch() {
+		index.upsert(item(1L, "LOST", "Black wallet", "leather, cards inside", "electronics", "Campus 15 canteen"));
+		index.upsert(item(2L, "FOUND", "Umbrella", "blue folding", "electronics", "Library"));
+
+		assertThat(index.matchesFor(1L, 10)).isEmpty();
+		assertThat(index.matchesFor(2L, 10)).isEmpty();
+	}
+
+	@Test
+	void sharedTextAndLocationRankAboveSharedLocationOnly() {
+		index.upsert(item(1L, "LOST", "Black leather wallet", "student id card inside", "wallet", "Campus 15 canteen"));
+		index.upsert(item(2L, "FOUND", "Wallet black leather", "found with id card", "wallet", "Campus 15 canteen"));
+		index.upsert(item(3L, "FOUND", "Water bottle", "steel", "bottle", "Campus 15 canteen"));
+		index.upsert(item(4L, "FOUND", "Headphones", "wireless", "wallet", "Library"));
+
+		List<ItemMatchResponse> matches = index.matchesFor(1L, 10);
+		assertThat(matches).extracting(match -> match.getItem().getId()).containsExactly(2L, 3L);
+		assertThat(matches.get(0).getScore()).isGreaterThan(matches.get(1).getScore());
+		// Stored on the other side too
+		assertThat(index.matchesFor(2L, 10)).extracting(match -> match.getItem().getId()).containsExactly(1L);
+	}
+
+	@Test
+	void closingAnItemRemovesItsMatches() {
+		index.upsert(item(1L, "LOST", "Casio calculator", "fx-991", "electronics", "Campus 3"));
+		index.upsert(item(2L, "FOUND", "Calculator casio", "scientific", "electronics", "Campus 3"));
+		assertThat(index.matchesFor(1L, 10)).hasSize(1);
+
+		index.upsert(item(2L, "CLAIMED", "Calculator casio", "scientific", "electronics", "Campus 3"));
+		assertThat(index.matchesFor(1L, 10)).isEmpty();
+		assertThat(index.matchesFor(2L, 10)).isEmpty();
+	}
+
+	private static ItemResponse item(Long id, String status, String title, String description, String category, String location) {
+		ItemResponse item = new ItemResponse();
+		item.setId(id);
+		item.setStatus(status);
+		item.setName(title);
+		item.setDescription(description);
+		item.setCategory(category);
+		item.setLocation(location);
+		item.setCreateAt(MONDAY);
+		return item;
+	}
+}
@@ -0,0 +1,71 @@
+package com.exampleKiitFinder.KittFinder.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// One hashing thread held on a latch, so the queue and the in-flight counts stay put while the limits are probed
+class PasswordHashingExecutorTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private PasswordHashingExecutor executor;
+
+	@AfterEach
+	void shutdown() {
+		release.countDown();
+		executor.shutdown();
+	}
+
+	@Test
+	void perAddressAndPerAccountLimitsAnswer429AndFreeUpWhenWorkCompletes() throws Exception {
+		executor = new PasswordHashingExecutor(1, 8, 2, 1, registry);
+
+		CompletableFuture<String> first = executor.submit("10.0.0.1", "Owner@kiit.ac.in", this::blocked);
+		assertThatThrownBy(() -> executor.submit("10.0.0.2", "owner@KIIT.ac.in", () -> "same account"))
+				.isInstanceOfSatisfying(AuthThrottledException.class, e -> assertThat(e.isOverloaded()).isFalse())
+				.hasMessageContaining("account");
+		CompletableFuture<String> second = executor.submit("10.0.0.1", "other@kiit.ac.in", () -> "queued");
+		assertThatThrownBy(() -> executor.submit("10.0.0.1", "third@kiit.ac.in", () -> "same address"))
+				.isInstanceOfSatisfying(AuthThrottledException.class, e -> assertThat(e.isOverloaded()).isFalse())
+				.hasMessageContaining("address");
+		assertThat(registry.get("kittfinder.auth.hashing.queued").gauge().value()).isEqualTo(1);
+
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("hashed");
+		assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+		assertThat(executor.submit("10.0.0.1", "owner@kiit.ac.in", () -> "again").get(5, TimeUnit.SECONDS)).isEqualTo("again");
+	}
+
+	@Test
+	void aFullQueueAnswers503WithoutHoldingTheClientsSlots() throws Exception {
+		executor = new PasswordHashingExecutor(1, 1, 1, 1, registry);
+
+		CompletableFuture<String> running = executor.submit("10.0.0.1", "a@kiit.ac.in", this::blocked);
+		CompletableFuture<String> queued = executor.submit("10.0.0.2", "b@kiit.ac.in", () -> "queued");
+		assertThatThrownBy(() -> executor.submit("10.0.0.3", "c@kiit.ac.in", () -> "rejected"))
+				.isInstanceOfSatisfying(AuthThrottledException.class, e -> assertThat(e.isOverloaded()).isTrue());
+
+		release.countDown();
+		running.get(5, TimeUnit.SECONDS);
+		queued.get(5, TimeUnit.SECONDS);
+		// With a limit of one, a slot kept by the rejected submit would turn this into a 429
+		assertThat(executor.submit("10.0.0.3", "c@kiit.ac.in", () -> "retried").get(5, TimeUnit.SECONDS)).isEqualTo("retried");
+	}
+
+	private String blocked() {
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return "hashed";
+	}
+}